@@ -1,6 +1,7 @@
 package com.mraof.minestuck;
 
 import com.mraof.minestuck.computer.editmode.DeployList;
+import com.mraof.minestuck.skaianet.UnderlingController;
 import net.minecraft.server.MinecraftServer;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -90,6 +91,8 @@ public class MinestuckConfig
 	public static BooleanValue aspectEffects;
 	public static BooleanValue playerSelectedTitle;
 	public static IntValue preEntryRungLimit;
+	public static BooleanValue mergeGristEntities;
+	public static BooleanValue singleGristEntityDrops;
 	
 	//Entry
 	public static BooleanValue entryCrater;
@@ -145,6 +148,10 @@ public class MinestuckConfig
 				.define("aspectEffects", true);
 		playerSelectedTitle = SERVER_BUILDER.comment("Enable this to let players select their own title. They will however not be able to select the Lord or Muse as class.")
 				.define("playerSelectedTitle", true);
+		mergeGristEntities = SERVER_BUILDER.comment("If this is true, grist entities of the same type that are close to each other will merge into one.")
+				.define("mergeGristEntities", true);
+		singleGristEntityDrops = SERVER_BUILDER.comment("If this is true, grist dropped all at once (such as from the grist widget) spawns as a single grist entity per grist type, instead of being split up into several.")
+				.define("singleGristEntityDrops", false);
 		SERVER_BUILDER.pop();
 		
 		SERVER_BUILDER.push("sylladex");
@@ -243,9 +250,17 @@ public class MinestuckConfig
 		CLIENT_CONFIG = CLIENT_BUILDER.build();
 	}
 	
+	@SubscribeEvent
+	public static void onLoad(final ModConfig.Loading event)
+	{
+		UnderlingController.invalidateSpawnTable();
+	}
+	
 	@SubscribeEvent
 	public static void onReload(final ModConfig.ConfigReloading event)
 	{
+		UnderlingController.invalidateSpawnTable();
+		
 		MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
 		if(server != null && server.isOnExecutionThread())	//TODO Check if this will be true after server start. If not, use a static boolean together with a tick event instead
 			DeployList.onConditionsUpdated(server);
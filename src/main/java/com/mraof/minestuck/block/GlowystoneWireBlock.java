@@ -1,9 +1,7 @@
 package com.mraof.minestuck.block;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.item.BlockItemUseContext;
@@ -24,11 +22,9 @@ import net.minecraft.world.IBlockReader;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
+import net.minecraftforge.event.ForgeEventFactory;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.Set;
+import java.util.*;
 
 public class GlowystoneWireBlock extends Block
 {
@@ -40,8 +36,8 @@ public class GlowystoneWireBlock extends Block
 	public static final Map<Direction, EnumProperty<RedstoneSide>> FACING_PROPERTY_MAP = Maps.newEnumMap(ImmutableMap.of(Direction.NORTH, NORTH, Direction.EAST, EAST, Direction.SOUTH, SOUTH, Direction.WEST, WEST));
 	protected static final VoxelShape[] SHAPES = new VoxelShape[]{Block.makeCuboidShape(3.0D, 0.0D, 3.0D, 13.0D, 1.0D, 13.0D), Block.makeCuboidShape(3.0D, 0.0D, 3.0D, 13.0D, 1.0D, 16.0D), Block.makeCuboidShape(0.0D, 0.0D, 3.0D, 13.0D, 1.0D, 13.0D), Block.makeCuboidShape(0.0D, 0.0D, 3.0D, 13.0D, 1.0D, 16.0D), Block.makeCuboidShape(3.0D, 0.0D, 0.0D, 13.0D, 1.0D, 13.0D), Block.makeCuboidShape(3.0D, 0.0D, 0.0D, 13.0D, 1.0D, 16.0D), Block.makeCuboidShape(0.0D, 0.0D, 0.0D, 13.0D, 1.0D, 13.0D), Block.makeCuboidShape(0.0D, 0.0D, 0.0D, 13.0D, 1.0D, 16.0D), Block.makeCuboidShape(3.0D, 0.0D, 3.0D, 16.0D, 1.0D, 13.0D), Block.makeCuboidShape(3.0D, 0.0D, 3.0D, 16.0D, 1.0D, 16.0D), Block.makeCuboidShape(0.0D, 0.0D, 3.0D, 16.0D, 1.0D, 13.0D), Block.makeCuboidShape(0.0D, 0.0D, 3.0D, 16.0D, 1.0D, 16.0D), Block.makeCuboidShape(3.0D, 0.0D, 0.0D, 16.0D, 1.0D, 13.0D), Block.makeCuboidShape(3.0D, 0.0D, 0.0D, 16.0D, 1.0D, 16.0D), Block.makeCuboidShape(0.0D, 0.0D, 0.0D, 16.0D, 1.0D, 13.0D), Block.makeCuboidShape(0.0D, 0.0D, 0.0D, 16.0D, 1.0D, 16.0D)};
 	
-	/** List of blocks to update with glowystone. */
-	private final Set<BlockPos> blocksNeedingUpdate = Sets.newHashSet();
+	/** The same order as {@link World#notifyNeighborsOfStateChange(BlockPos, Block)} notifies neighbors in. */
+	private static final Direction[] UPDATE_ORDER = new Direction[]{Direction.WEST, Direction.EAST, Direction.DOWN, Direction.UP, Direction.NORTH, Direction.SOUTH};
 	
 	public GlowystoneWireBlock(Properties properties)
 	{
@@ -134,27 +130,69 @@ public class GlowystoneWireBlock extends Block
 		return Block.hasSolidSide(blockstate, worldIn, blockpos, Direction.UP);
 	}
 	
-	private BlockState updateSurroundingGlowystone(World worldIn, BlockPos pos, BlockState state)
+	/**
+	 * Collects the positions whose neighbors should be notified when glowystone wire at the position is placed or removed.
+	 * These are the positions vanilla redstone wire would call {@link World#notifyNeighborsOfStateChange(BlockPos, Block)} for:
+	 * the blocks above and below the wire (or all six adjacent blocks when it is removed),
+	 * and all horizontally and diagonally adjacent wires together with their neighbors.
+	 */
+	private Set<BlockPos> collectUpdateSources(World worldIn, BlockPos pos, boolean removed)
 	{
-		List<BlockPos> list = Lists.newArrayList(this.blocksNeedingUpdate);
-		this.blocksNeedingUpdate.clear();
+		Set<BlockPos> sources = new LinkedHashSet<>();
+		for(Direction direction : removed ? Direction.values() : new Direction[]{Direction.DOWN, Direction.UP})
+			sources.add(pos.offset(direction));
 		
-		for(BlockPos blockpos : list) {
-			worldIn.notifyNeighborsOfStateChange(blockpos, this);
-		}
+		for(Direction direction : Direction.Plane.HORIZONTAL)
+			this.addWireSources(sources, worldIn, pos.offset(direction));
 		
-		return state;
+		for(Direction direction : Direction.Plane.HORIZONTAL)
+		{
+			BlockPos blockpos = pos.offset(direction);
+			
+			if (worldIn.getBlockState(blockpos).isNormalCube(worldIn, blockpos))
+			{
+				this.addWireSources(sources, worldIn, blockpos.up());
+			}
+			else
+			{
+				this.addWireSources(sources, worldIn, blockpos.down());
+			}
+		}
+		return sources;
 	}
 	
-	private void notifyWireNeighborsOfStateChange(World worldIn, BlockPos pos)
+	private void addWireSources(Set<BlockPos> sources, World worldIn, BlockPos pos)
 	{
 		if (worldIn.getBlockState(pos).getBlock() == this)
 		{
-			worldIn.notifyNeighborsOfStateChange(pos, this);
-
+			sources.add(pos);
+			
 			for (Direction direction : Direction.values())
 			{
-				worldIn.notifyNeighborsOfStateChange(pos.offset(direction), this);
+				sources.add(pos.offset(direction));
+			}
+		}
+	}
+	
+	/**
+	 * Notifies the neighbors of each source, like {@link World#notifyNeighborsOfStateChange(BlockPos, Block)} would,
+	 * including the cancellable neighbor notify event, but notifies each block at most once.
+	 * Glowystone wire doesn't carry power, so unlike redstone wire there is no power level to propagate through the connected wires,
+	 * and notifying a block more than once would only repeat the same work.
+	 */
+	private void notifyUpdates(World worldIn, Set<BlockPos> sources)
+	{
+		Set<BlockPos> notified = new HashSet<>();
+		for(BlockPos source : sources)
+		{
+			if(ForgeEventFactory.onNeighborNotify(worldIn, source, worldIn.getBlockState(source), EnumSet.allOf(Direction.class), false).isCanceled())
+				continue;
+			
+			for(Direction direction : UPDATE_ORDER)
+			{
+				BlockPos target = source.offset(direction);
+				if(notified.add(target))
+					worldIn.neighborChanged(target, this, source);
 			}
 		}
 	}
@@ -164,31 +202,7 @@ public class GlowystoneWireBlock extends Block
 	{
 		if (!worldIn.isRemote)
 		{
-			this.updateSurroundingGlowystone(worldIn, pos, state);
-
-			for (Direction direction : Direction.Plane.VERTICAL)
-			{
-				worldIn.notifyNeighborsOfStateChange(pos.offset(direction), this);
-			}
-
-			for (Direction direction : Direction.Plane.HORIZONTAL)
-			{
-				this.notifyWireNeighborsOfStateChange(worldIn, pos.offset(direction));
-			}
-
-			for (Direction direction : Direction.Plane.HORIZONTAL)
-			{
-				BlockPos blockpos = pos.offset(direction);
-
-				if (worldIn.getBlockState(blockpos).isNormalCube(worldIn, blockpos))
-				{
-					this.notifyWireNeighborsOfStateChange(worldIn, blockpos.up());
-				}
-				else
-				{
-					this.notifyWireNeighborsOfStateChange(worldIn, blockpos.down());
-				}
-			}
+			this.notifyUpdates(worldIn, this.collectUpdateSources(worldIn, pos, false));
 		}
 	}
 	
@@ -199,31 +213,7 @@ public class GlowystoneWireBlock extends Block
 
 		if (!worldIn.isRemote)
 		{
-			for (Direction direction : Direction.values())
-			{
-				worldIn.notifyNeighborsOfStateChange(pos.offset(direction), this);
-			}
-
-			this.updateSurroundingGlowystone(worldIn, pos, state);
-
-			for (Direction direction : Direction.Plane.HORIZONTAL)
-			{
-				this.notifyWireNeighborsOfStateChange(worldIn, pos.offset(direction));
-			}
-
-			for (Direction direction : Direction.Plane.HORIZONTAL)
-			{
-				BlockPos blockpos = pos.offset(direction);
-
-				if (worldIn.getBlockState(blockpos).isNormalCube(worldIn, blockpos))
-				{
-					this.notifyWireNeighborsOfStateChange(worldIn, blockpos.up());
-				}
-				else
-				{
-					this.notifyWireNeighborsOfStateChange(worldIn, blockpos.down());
-				}
-			}
+			this.notifyUpdates(worldIn, this.collectUpdateSources(worldIn, pos, true));
 		}
 	}
 	
@@ -232,11 +222,7 @@ public class GlowystoneWireBlock extends Block
 	{
 		if (!worldIn.isRemote)
 		{
-			if (this.isValidPosition(state, worldIn, pos))
-			{
-				this.updateSurroundingGlowystone(worldIn, pos, state);
-			}
-			else
+			if (!this.isValidPosition(state, worldIn, pos))
 			{
 				spawnDrops(state, worldIn, pos);
 				worldIn.removeBlock(pos, false);
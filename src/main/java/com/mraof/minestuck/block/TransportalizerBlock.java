@@ -2,6 +2,7 @@ package com.mraof.minestuck.block;
 
 import com.mraof.minestuck.client.gui.MSScreenFactories;
 import com.mraof.minestuck.tileentity.TransportalizerTileEntity;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockRenderType;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
@@ -56,6 +57,19 @@ public class TransportalizerBlock extends MachineBlock
 			((TransportalizerTileEntity) tileEntity).onCollision(entityIn);
 	}
 	
+	@Override
+	@SuppressWarnings("deprecation")
+	public void neighborChanged(BlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos, boolean isMoving)
+	{
+		super.neighborChanged(state, worldIn, pos, blockIn, fromPos, isMoving);
+		if(!worldIn.isRemote)
+		{
+			TileEntity tileEntity = worldIn.getTileEntity(pos);
+			if(tileEntity instanceof TransportalizerTileEntity)
+				((TransportalizerTileEntity) tileEntity).updatePower();
+		}
+	}
+	
 	@Override
 	@SuppressWarnings("deprecation")
 	public BlockRenderType getRenderType(BlockState state)
@@ -6,6 +6,7 @@ import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import com.mraof.minestuck.block.MSBlocks;
+import com.mraof.minestuck.tileentity.CollisionTeleporterHandler;
 import com.mraof.minestuck.tileentity.TransportalizerTileEntity;
 import com.mraof.minestuck.util.Teleport;
 import com.mraof.minestuck.world.storage.TransportalizerSavedData;
@@ -27,6 +28,7 @@ public class TransportalizerCommand
 	public static final String FAILURE = "commands.minestuck.tpz.failure";
 	public static final String RESULT = "commands.minestuck.tpz.result";
 	public static final String FAILURE_RESULT = "commands.minestuck.tpz.failure_result";
+	public static final String STATS = "commands.minestuck.tpzstats";
 	private static final DynamicCommandExceptionType NOT_FOUND_EXCEPTION = new DynamicCommandExceptionType(o -> new TranslationTextComponent(NOT_FOUND, o));
 	private static final SimpleCommandExceptionType BLOCKED_EXCEPTION = new SimpleCommandExceptionType(new TranslationTextComponent(TransportalizerTileEntity.BLOCKED_DESTINATION));
 	private static final SimpleCommandExceptionType RESULT_EXCEPTION = new SimpleCommandExceptionType(new TranslationTextComponent(FAILURE_RESULT));
@@ -36,6 +38,15 @@ public class TransportalizerCommand
 		dispatcher.register(Commands.literal("tpz").requires(commandSource -> commandSource.hasPermissionLevel(2))
 				.then(Commands.argument("code", StringArgumentType.word()).executes(context -> teleport(context.getSource(), Collections.singleton(context.getSource().assertIsEntity()), StringArgumentType.getString(context, "code")))
 				.then(Commands.argument("targets", EntityArgument.entities()).executes(context -> teleport(context.getSource(), EntityArgument.getEntities(context, "targets"), StringArgumentType.getString(context, "code"))))));
+		dispatcher.register(Commands.literal("tpzstats").requires(commandSource -> commandSource.hasPermissionLevel(2))
+				.executes(context -> stats(context.getSource())));
+	}
+	
+	private static int stats(CommandSource source)
+	{
+		int count = CollisionTeleporterHandler.getLastTransportalizerCount();
+		source.sendFeedback(new TranslationTextComponent(STATS, count, String.format("%.2f", CollisionTeleporterHandler.getAverageTransportalizerCount())), false);
+		return count;
 	}
 	
 	private static int teleport(CommandSource source, Collection<? extends Entity> entities, String code) throws CommandSyntaxException
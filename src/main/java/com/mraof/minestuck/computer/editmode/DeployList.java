@@ -35,6 +35,10 @@ public final class DeployList
 	public static final IAvailabilityCondition HAS_NOT_ENTERED = connection -> !connection.hasEntered();
 	
 	private static final ArrayList<DeployEntry> list = new ArrayList<>();
+	/**
+	 * Changed whenever the deploy list of a connection might have changed, so that cached lists know to rebuild.
+	 */
+	private static int conditionsVersion;
 	
 	public static void registerItems()
 	{
@@ -176,11 +180,26 @@ public final class DeployList
 		return nbt;
 	}
 	
+	static int getConditionsVersion()
+	{
+		return conditionsVersion;
+	}
+	
+	/**
+	 * Should be called when something that deploy list tiers are based on (such as sessions and entry) might have changed.
+	 * Unlike {@link #onConditionsUpdated}, this does not resend the deploy list to editors.
+	 */
+	public static void invalidateCaches()
+	{
+		conditionsVersion++;
+	}
+	
 	/**
 	 * Should be called any time that the conditions of deploy list entries might have changed for players.
 	 */
 	public static void onConditionsUpdated(MinecraftServer server)
 	{
+		invalidateCaches();
 		MSExtraData.get(server).forEach(EditData::sendGivenItemsToEditor);
 	}
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.mraof.minestuck.computer.editmode;
 
 import com.mraof.minestuck.entity.DecoyEntity;
+import com.mraof.minestuck.item.crafting.alchemy.GristAmount;
 import com.mraof.minestuck.item.crafting.alchemy.GristSet;
+import com.mraof.minestuck.network.GristCacheChangesPacket;
 import com.mraof.minestuck.network.GristCachePacket;
 import com.mraof.minestuck.network.MSPacketHandler;
 import com.mraof.minestuck.network.ServerEditPacket;
@@ -22,6 +24,8 @@ import net.minecraftforge.common.util.Constants;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.List;
+
 /**
  * Data structure used by the server sided EditHandler
  * Contains the player, player decoy, and connection
@@ -37,6 +41,7 @@ public class EditData
 		this.decoy = decoy;
 		this.player = player;
 		this.connection = c;
+		this.inventoryFilter = new EditInventoryFilter(c);
 	}
 	
 	private final DecoyEntity decoy;
@@ -45,6 +50,8 @@ public class EditData
 	
 	private final ServerPlayerEntity player;
 	
+	final EditInventoryFilter inventoryFilter;
+	
 	private boolean isRecovering;
 	
 	/**
@@ -55,6 +62,11 @@ public class EditData
 		return connection.getClientIdentifier();
 	}
 	
+	public SburbConnection getConnection()
+	{
+		return connection;
+	}
+	
 	/**
 	 * @return the player that activated and is in editmode (not necessarily the server player of the connection)
 	 */
@@ -79,9 +91,14 @@ public class EditData
 		MSPacketHandler.sendToPlayer(packet, editor);
 	}
 	
+	public void sendGristCacheChangesToEditor(List<GristAmount> changes)
+	{
+		MSPacketHandler.sendToPlayer(new GristCacheChangesPacket(changes, true), getEditor());
+	}
+	
 	public void sendGivenItemsToEditor()
 	{
-		
+		inventoryFilter.invalidate();
 		ServerEditPacket packet = ServerEditPacket.givenItems(DeployList.getDeployListTag(player.server, connection));
 		MSPacketHandler.sendToPlayer(packet, getEditor());
 	}
@@ -0,0 +1,118 @@
+package com.mraof.minestuck.computer.editmode;
+
+import com.mraof.minestuck.item.crafting.alchemy.GristCostRecipe;
+import com.mraof.minestuck.item.crafting.alchemy.GristCostRecipeIndex;
+import com.mraof.minestuck.skaianet.SburbConnection;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.NonNullList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the inventory of an editmode player limited to deployable items and blocks with a grist cost.
+ * Belongs to the {@link EditData} of a connection, and caches the deploy list items of that connection
+ * together with which items have a grist cost, until the deploy list conditions or the grist cost recipes change.
+ * Only inventory slots that changed since the last check are looked at.
+ */
+final class EditInventoryFilter
+{
+	private final SburbConnection connection;
+	
+	private List<ItemStack> deployStacks;
+	private int deployListVersion;
+	private GristCostRecipeIndex recipeIndex;
+	private final Map<Item, Boolean> hasCost = new HashMap<>();	//Only for stacks without nbt, as the nbt of a stack may affect its cost
+	private ItemStack[] checkedStacks = new ItemStack[0];	//What each slot contained after it was last checked
+	
+	EditInventoryFilter(SburbConnection connection)
+	{
+		this.connection = connection;
+	}
+	
+	/**
+	 * Makes the next check rebuild the deploy list and look at every slot.
+	 */
+	void invalidate()
+	{
+		deployStacks = null;
+	}
+	
+	/**
+	 * Removes or cleans up items in the inventory that the player isn't supposed to have in editmode.
+	 * @return true if the inventory was changed
+	 */
+	boolean filter(ServerPlayerEntity player)
+	{
+		GristCostRecipeIndex index = GristCostRecipeIndex.get(player.world.getRecipeManager());
+		if(index != recipeIndex)
+		{
+			recipeIndex = index;
+			hasCost.clear();
+			deployStacks = null;
+		}
+		if(deployStacks == null || deployListVersion != DeployList.getConditionsVersion())
+		{
+			deployListVersion = DeployList.getConditionsVersion();
+			deployStacks = new ArrayList<>();
+			for(DeployEntry entry : DeployList.getItemList(player.getServer(), connection))
+				deployStacks.add(entry.getItemStack(connection, player.world));
+			checkedStacks = new ItemStack[0];
+		}
+		
+		NonNullList<ItemStack> inventory = player.inventory.mainInventory;
+		if(checkedStacks.length != inventory.size())
+			checkedStacks = new ItemStack[inventory.size()];
+		
+		boolean inventoryChanged = false;
+		for(int i = 0; i < inventory.size(); i++)
+		{
+			ItemStack stack = inventory.get(i);
+			if(checkedStacks[i] != null && ItemStack.areItemStacksEqual(checkedStacks[i], stack))
+				continue;
+			
+			if(!stack.isEmpty())
+			{
+				if(!ServerEditHandler.isBlockItem(stack.getItem()) || !hasCost(stack, player))
+				{
+					if(!isDeployStack(stack))
+					{
+						inventory.set(i, ItemStack.EMPTY);
+						inventoryChanged = true;
+					}
+				} else if(stack.hasTag() && !isDeployStack(stack))
+				{
+					stack.setTag(null);
+					inventoryChanged = true;
+				}
+				if(stack.getCount() > 1)
+				{
+					stack.setCount(1);
+					inventoryChanged = true;
+				}
+			}
+			checkedStacks[i] = inventory.get(i).copy();
+		}
+		
+		return inventoryChanged;
+	}
+	
+	private boolean hasCost(ItemStack stack, ServerPlayerEntity player)
+	{
+		if(stack.hasTag())
+			return GristCostRecipe.findCostForItem(stack, null, false, player.world) != null;
+		else return hasCost.computeIfAbsent(stack.getItem(), item -> GristCostRecipe.findCostForItem(stack, null, false, player.world) != null);
+	}
+	
+	private boolean isDeployStack(ItemStack stack)
+	{
+		for(ItemStack deployStack : deployStacks)
+			if(ItemStack.areItemStacksEqual(deployStack, stack))
+				return true;
+		return false;
+	}
+}
@@ -242,16 +242,16 @@ public final class ServerEditHandler
 	
 	public static EditData getData(PlayerEntity editor)
 	{
-		return MSExtraData.get(editor.world).findEditData(editData -> editData.getEditor() == editor);
+		return MSExtraData.get(editor.world).getEditData(editor);
 	}
 	
 	public static EditData getData(MinecraftServer server, SburbConnection c)
 	{
-		return MSExtraData.get(server).findEditData(editData -> editData.connection.getClientIdentifier().equals(c.getClientIdentifier()) && editData.connection.getServerIdentifier().equals(c.getServerIdentifier()));
+		return MSExtraData.get(server).getEditData(c);
 	}
 	
 	public static EditData getData(DecoyEntity decoy) {
-		return MSExtraData.get(decoy.getEntityWorld()).findEditData(editData -> editData.getDecoy() == decoy);
+		return MSExtraData.get(decoy.getEntityWorld()).getEditData(decoy);
 	}
 	
 	@SubscribeEvent
@@ -267,7 +267,7 @@ public final class ServerEditHandler
 		SburbConnection c = data.connection;
 		int range = MSDimensions.isLandDimension(player.dimension) ? MinestuckConfig.landEditRange.get() : MinestuckConfig.overworldEditRange.get();
 		
-		updateInventory(player, c);
+		updateInventory(player, data);
 		updatePosition(player, range, c.centerX, c.centerZ);
 		
 		player.timeUntilPortal = player.getPortalCooldown();
@@ -485,48 +485,9 @@ public final class ServerEditHandler
 		}
 	}
 	
-	public static void updateInventory(ServerPlayerEntity player, SburbConnection connection)
+	public static void updateInventory(ServerPlayerEntity player, EditData data)
 	{
-		List<DeployEntry> deployList = DeployList.getItemList(player.getServer(), connection);
-		deployList.removeIf(entry -> entry.getCurrentCost(connection) == null);
-		List<ItemStack> itemList = new ArrayList<>();
-		deployList.forEach(deployEntry -> itemList.add(deployEntry.getItemStack(connection, player.world)));
-		
-		boolean inventoryChanged = false;
-		for(int i = 0; i < player.inventory.mainInventory.size(); i++)
-		{
-			ItemStack stack = player.inventory.mainInventory.get(i);
-			if(stack.isEmpty())
-				continue;
-			if(GristCostRecipe.findCostForItem(stack, null, false, player.getEntityWorld()) == null || !isBlockItem(stack.getItem()))
-			{
-				listSearch :
-				{
-					for(ItemStack deployStack : itemList)
-						if(ItemStack.areItemStacksEqual(deployStack, stack))
-							break listSearch;
-					player.inventory.mainInventory.set(i, ItemStack.EMPTY);
-					inventoryChanged = true;
-				}
-			} else if(stack.hasTag())
-			{
-				listSearch :
-				{
-					for(ItemStack deployStack : itemList)
-						if(ItemStack.areItemStacksEqual(deployStack, stack))
-							break listSearch;
-					stack.setTag(null);
-					inventoryChanged = true;
-				}
-			}
-			if(stack.getCount() > 1)
-			{
-				stack.setCount(1);
-				inventoryChanged = true;
-			}
-		}
-		
-		if(inventoryChanged)
+		if(data.inventoryFilter.filter(player))
 			player.getServer().getPlayerList().sendInventory(player);
 	}
 	
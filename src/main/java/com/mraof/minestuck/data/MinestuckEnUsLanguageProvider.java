@@ -1177,6 +1177,7 @@ public class MinestuckEnUsLanguageProvider extends MinestuckLanguageProvider
 		add(TransportalizerCommand.FAILURE, "Teleportation failed for %s");
 		add(TransportalizerCommand.FAILURE_RESULT, "Failed the teleport anything.");
 		add(TransportalizerCommand.RESULT, "Successfully teleported %s entities to transportalizer");
+		add(TransportalizerCommand.STATS, "Transportalizers handled last tick: %s (average over the last 100 ticks: %s)");
 		add(SburbConnectionCommand.SUCCESS, "Successfully set %s's server player as %s");
 		add(SburbConnectionCommand.LOCKED, "Their session is locked, and should no longer be modified");
 		add(SburbConnectionCommand.ALREADY_CONNECTED, "Those players have already been connected");
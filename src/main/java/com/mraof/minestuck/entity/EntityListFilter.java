@@ -3,26 +3,44 @@ package com.mraof.minestuck.entity;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
 public class EntityListFilter implements Predicate<Entity>
 {
-	public List<EntityType<?>> entityList;
+	private final Set<EntityType<?>> entityTypes;
+	private final Set<EntityType<?>> view;
 
 	public boolean isEntityApplicable(Entity entity)
 	{
-	    for(EntityType<?> type : entityList) {
-	    	if(entity.getType() == type) {
-	    		return true;
-		    }
-	    }
-		return false;
+		return entityTypes.contains(entity.getType());
 	}
 
-	public EntityListFilter(List<EntityType<?>> entityList)
+	public EntityListFilter(Collection<EntityType<?>> entityTypes)
 	{
-		this.entityList = entityList;
+		this.entityTypes = new LinkedHashSet<>(entityTypes);
+		this.view = Collections.unmodifiableSet(this.entityTypes);
+	}
+	
+	public void addType(EntityType<?> type)
+	{
+		entityTypes.add(type);
+	}
+	
+	public boolean containsType(EntityType<?> type)
+	{
+		return entityTypes.contains(type);
+	}
+	
+	/**
+	 * Used by the target index to only look at entities of these types.
+	 */
+	public Set<EntityType<?>> getTypes()
+	{
+		return view;
 	}
 	
 	@Override
@@ -30,4 +48,4 @@ public class EntityListFilter implements Predicate<Entity>
 	{
 		return isEntityApplicable(entity);
 	}
-}
\ No newline at end of file
+}
@@ -5,10 +5,10 @@ import net.minecraft.entity.EntityPredicate;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.goal.TargetGoal;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.world.server.ServerWorld;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.EnumSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -21,8 +21,8 @@ public class NearestAttackableTargetWithHeightGoal extends TargetGoal
 	private float targetHeightDistance;
 	private final Predicate targetPredicate;
 
-	/** Instance of EntityAINearestAttackableTargetSorter. */
-	private EntityAINearestAttackableTargetWithHeightSorter theNearestAttackableTargetWithHeightSorter;
+	/** Reused between attempts to avoid allocating a new list each time. */
+	private final List<LivingEntity> candidates = new ArrayList<>();
 	private float targetDistance;
 
 	public NearestAttackableTargetWithHeightGoal(CreatureEntity owner, Class<? extends LivingEntity> par2Class, float par3, int par4, boolean par5)
@@ -43,7 +43,6 @@ public class NearestAttackableTargetWithHeightGoal extends TargetGoal
 		this.targetDistance = par3;
 		this.targetHeightDistance = 4;
 		this.targetChance = par4;
-		this.theNearestAttackableTargetWithHeightSorter = new EntityAINearestAttackableTargetWithHeightSorter(this, owner);
 		this.targetPredicate = par7IEntitySelector;
 		this.setMutexFlags(EnumSet.of(Flag.TARGET));
 	}
@@ -72,19 +71,31 @@ public class NearestAttackableTargetWithHeightGoal extends TargetGoal
 			}
 			else
 			{
-				List<? extends LivingEntity> list = this.goalOwner.world.getEntitiesWithinAABB(this.targetClass, this.goalOwner.getBoundingBox().grow((double)this.targetDistance, this.targetHeightDistance, (double)this.targetDistance), targetPredicate);
-				Collections.sort(list, this.theNearestAttackableTargetWithHeightSorter);
-				Iterator<? extends LivingEntity> iterator = list.iterator();
+				TargetIndex.get((ServerWorld) this.goalOwner.world).collect(this.targetClass, this.goalOwner.getBoundingBox().grow((double)this.targetDistance, this.targetHeightDistance, (double)this.targetDistance), targetPredicate, candidates);
 				
-				while(iterator.hasNext())
+				//A single pass that keeps the nearest suitable candidate, only checking candidates that are nearer than the best one so far
+				try
 				{
-					LivingEntity entity = iterator.next();
-
-					if (this.isSuitableTarget(entity, EntityPredicate.DEFAULT))
+					LivingEntity nearest = null;
+					double nearestDistance = Double.MAX_VALUE;
+					for(LivingEntity candidate : candidates)
+					{
+						double distance = this.goalOwner.getDistanceSq(candidate);
+						if(distance < nearestDistance && this.isSuitableTarget(candidate, EntityPredicate.DEFAULT))
+						{
+							nearest = candidate;
+							nearestDistance = distance;
+						}
+					}
+					
+					if(nearest != null)
 					{
-						this.targetEntity = entity;
+						this.targetEntity = nearest;
 						return true;
 					}
+				} finally
+				{
+					candidates.clear();
 				}
 			}
 
@@ -0,0 +1,103 @@
+package com.mraof.minestuck.entity.ai;
+
+import com.mraof.minestuck.entity.EntityListFilter;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.server.ServerWorld;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * An index of the living entities in a world, used to find targets for {@link NearestAttackableTargetWithHeightGoal}.
+ * Entities are grouped by entity type, and within each type by which column of 64x64 blocks they are in.
+ * This way, goals that only target certain types through an {@link EntityListFilter} (such as carapacians of the opposite kingdom)
+ * only have to look at entities of those types in the columns near them.
+ * The index is built when first needed in a tick, and then shared by all goals in the same world for the rest of that tick.
+ * Entities that were added later in the tick are not included until the next tick.
+ * The index is dropped at the end of the world tick and when the world is unloaded, so that it doesn't keep any entities or worlds loaded.
+ */
+public final class TargetIndex
+{
+	private static final Map<ServerWorld, TargetIndex> INDICES = new WeakHashMap<>();
+	
+	private static final int CELL_BITS = 6;
+	private static final double MARGIN = 2;	//Entities are put in cells by position, but their bounding box may reach a bit outside of it
+	
+	private final long gameTime;
+	private final Map<EntityType<?>, Map<Long, List<LivingEntity>>> entities = new HashMap<>();
+	private final List<Map<Long, List<LivingEntity>>> filteredTypes = new ArrayList<>();	//Reused by collect() to avoid allocating a new list for each call
+	
+	private TargetIndex(ServerWorld world)
+	{
+		gameTime = world.getGameTime();
+		world.getEntities().forEach(entity -> {
+			if(entity instanceof LivingEntity && entity.isAlive())
+			{
+				long cell = ChunkPos.asLong(MathHelper.floor(entity.posX) >> CELL_BITS, MathHelper.floor(entity.posZ) >> CELL_BITS);
+				entities.computeIfAbsent(entity.getType(), type -> new HashMap<>())
+						.computeIfAbsent(cell, pos -> new ArrayList<>()).add((LivingEntity) entity);
+			}
+		});
+	}
+	
+	static TargetIndex get(ServerWorld world)
+	{
+		TargetIndex index = INDICES.get(world);
+		if(index == null || index.gameTime != world.getGameTime())
+		{
+			index = new TargetIndex(world);
+			INDICES.put(world, index);
+		}
+		return index;
+	}
+	
+	/**
+	 * Drops the index for the world. Called at the end of each world tick and when the world is unloaded.
+	 */
+	public static void clear(IWorld world)
+	{
+		INDICES.remove(world);
+	}
+	
+	/**
+	 * Adds all indexed entities of the class that intersect with the bounding box and match the predicate to the list.
+	 * If the predicate is an {@link EntityListFilter}, only entities of the types in the filter are looked at.
+	 */
+	@SuppressWarnings("unchecked")
+	<T extends LivingEntity> void collect(Class<? extends T> entityClass, AxisAlignedBB box, Predicate<? super T> predicate, List<T> list)
+	{
+		int minX = MathHelper.floor(box.minX - MARGIN) >> CELL_BITS, maxX = MathHelper.floor(box.maxX + MARGIN) >> CELL_BITS;
+		int minZ = MathHelper.floor(box.minZ - MARGIN) >> CELL_BITS, maxZ = MathHelper.floor(box.maxZ + MARGIN) >> CELL_BITS;
+		
+		Collection<Map<Long, List<LivingEntity>>> types;
+		if(predicate instanceof EntityListFilter)
+		{
+			filteredTypes.clear();
+			for(EntityType<?> type : ((EntityListFilter) predicate).getTypes())
+			{
+				Map<Long, List<LivingEntity>> cells = entities.get(type);
+				if(cells != null)
+					filteredTypes.add(cells);
+			}
+			types = filteredTypes;
+		} else types = entities.values();
+		
+		for(Map<Long, List<LivingEntity>> cells : types)
+		{
+			for(int x = minX; x <= maxX; x++)
+				for(int z = minZ; z <= maxZ; z++)
+				{
+					List<LivingEntity> cell = cells.get(ChunkPos.asLong(x, z));
+					if(cell != null)
+						for(LivingEntity entity : cell)
+							if(entityClass.isInstance(entity) && entity.getBoundingBox().intersects(box) && (predicate == null || predicate.test((T) entity)))
+								list.add((T) entity);
+				}
+		}
+	}
+}
@@ -106,7 +106,7 @@ public abstract class BishopEntity extends CarapacianEntity implements IRangedAt
 	@Override
 	NearestAttackableTargetWithHeightGoal entityAINearestAttackableTargetWithHeight()
 	{
-		NearestAttackableTargetWithHeightGoal ai = new NearestAttackableTargetWithHeightGoal(this, LivingEntity.class, 256.0F, 0, true, false, attackEntitySelector);
+		NearestAttackableTargetWithHeightGoal ai = new NearestAttackableTargetWithHeightGoal(this, LivingEntity.class, 256.0F, 0, true, false, getAttackEntitySelector());
 		ai.setTargetHeightDistance(64);
 		return ai;
 	}
@@ -16,23 +16,21 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.world.World;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
 public abstract class CarapacianEntity extends MinestuckEntity
 {
-	protected List<EntityType<?>> enemyTypes;	//TODO Save this!
 	protected List<EntityType<?>> allyTypes;
 	protected static final Predicate<Entity> PROSPITIAN_SELECTOR = entity -> MSTags.EntityTypes.PROSPITIAN_CARAPACIANS.contains(entity.getType());
 	protected static final Predicate<Entity> DERSITE_SELECTOR = entity -> MSTags.EntityTypes.DERSITE_CARAPACIANS.contains(entity.getType());
-	protected EntityListFilter attackEntitySelector;
+	private EntityListFilter attackEntitySelector;	//TODO Save this!
 
 	public CarapacianEntity(EntityType<? extends CarapacianEntity> type, World world)
 	{
 		super(type, world);
-		enemyTypes = new ArrayList<>();
 		allyTypes = new ArrayList<>();
-		setEnemies();
 		setAllies();
 	}
 	
@@ -60,16 +58,29 @@ public abstract class CarapacianEntity extends MinestuckEntity
 		}
 	}
 	
+	/**
+	 * Creates the filter the first time that it is needed, since goals are registered during the super constructor,
+	 * before the constructor of this class has run.
+	 */
+	protected EntityListFilter getAttackEntitySelector()
+	{
+		if(attackEntitySelector == null)
+			setEnemies();
+		return attackEntitySelector;
+	}
+	
 	private void setEnemies()
 	{
-		attackEntitySelector = new EntityListFilter(enemyTypes);
 		switch(this.getKingdom())
 		{
 			case PROSPITIAN:
-				enemyTypes.addAll(MSTags.EntityTypes.DERSITE_CARAPACIANS.getAllElements());	//TODO Should refer to tags directly. Entities will otherwise need to be reconstructed for resource reload changes to take place
+				attackEntitySelector = new EntityListFilter(MSTags.EntityTypes.DERSITE_CARAPACIANS.getAllElements());	//TODO Should refer to tags directly. Entities will otherwise need to be reconstructed for resource reload changes to take place
 				break;
 			case DERSITE:
-				enemyTypes.addAll(MSTags.EntityTypes.PROSPITIAN_CARAPACIANS.getAllElements());
+				attackEntitySelector = new EntityListFilter(MSTags.EntityTypes.PROSPITIAN_CARAPACIANS.getAllElements());
+				break;
+			default:
+				attackEntitySelector = new EntityListFilter(Collections.emptyList());
 		}
 	}
 	
@@ -77,9 +88,9 @@ public abstract class CarapacianEntity extends MinestuckEntity
 	
 	public void addEnemy(EntityType<?> enemyType)
 	{
-		if(canAttack(enemyType) && !enemyTypes.contains(enemyType))
+		if(canAttack(enemyType) && !getAttackEntitySelector().containsType(enemyType))
 		{
-			enemyTypes.add(enemyType);
+			getAttackEntitySelector().addType(enemyType);
 		}
 	}
 	
@@ -101,7 +112,7 @@ public abstract class CarapacianEntity extends MinestuckEntity
 	
 	NearestAttackableTargetWithHeightGoal entityAINearestAttackableTargetWithHeight()
 	{
-		return new NearestAttackableTargetWithHeightGoal(this, LivingEntity.class, 256.0F, 0, true, false, attackEntitySelector);
+		return new NearestAttackableTargetWithHeightGoal(this, LivingEntity.class, 256.0F, 0, true, false, getAttackEntitySelector());
 	}
 	
 	public abstract EnumEntityKingdom getKingdom();
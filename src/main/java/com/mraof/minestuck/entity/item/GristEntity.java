@@ -1,5 +1,6 @@
 package com.mraof.minestuck.entity.item;
 
+import com.mraof.minestuck.MinestuckConfig;
 import com.mraof.minestuck.computer.editmode.ClientEditHandler;
 import com.mraof.minestuck.computer.editmode.ServerEditHandler;
 import com.mraof.minestuck.entity.MSEntityTypes;
@@ -12,6 +13,9 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.IPacket;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.datasync.DataParameter;
+import net.minecraft.network.datasync.DataSerializers;
+import net.minecraft.network.datasync.EntityDataManager;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.SoundEvents;
 import net.minecraft.util.math.BlockPos;
@@ -24,6 +28,10 @@ import net.minecraftforge.fml.network.NetworkHooks;
 
 public class GristEntity extends Entity implements IEntityAdditionalSpawnData
 {	//TODO Perhaps use a data manager for grist type in the same way as the underling entity?
+	private static final DataParameter<Float> SIZE_SCALE = EntityDataManager.createKey(GristEntity.class, DataSerializers.FLOAT);	//Synced so that clients see the new size after merging
+	private static final int MERGE_MIN_AGE = 20;	//Gives newly dropped grist some time to spread out before merging
+	private static final long MAX_MERGED_VALUE = Short.MAX_VALUE;	//Keeps merged grist entities from growing without bound
+	
 	public int cycle;
 
 	public int gristAge = 0;
@@ -32,6 +40,7 @@ public class GristEntity extends Entity implements IEntityAdditionalSpawnData
 	//Type of grist
 	private GristType gristType = GristTypes.BUILD;
 	private long gristValue = 1;
+	private float sizeScale = 1;	//Cached value of gristValue^0.25
 
 	private PlayerEntity closestPlayer;
 
@@ -45,7 +54,7 @@ public class GristEntity extends Entity implements IEntityAdditionalSpawnData
 	public GristEntity(World world, double x, double y, double z, GristAmount gristData)
 	{
 		super(MSEntityTypes.GRIST, world);
-		this.gristValue = gristData.getAmount();
+		setGristValue(gristData.getAmount());
 //		this.yOffset = this.height / 2.0F;
 		this.setPosition(x, y, z);
 		this.rotationYaw = (float)(Math.random() * 360.0D);
@@ -61,7 +70,28 @@ public class GristEntity extends Entity implements IEntityAdditionalSpawnData
 	
 	@Override
 	protected void registerData()
-	{}
+	{
+		dataManager.register(SIZE_SCALE, 1F);
+	}
+	
+	@Override
+	public void notifyDataManagerChange(DataParameter<?> key)
+	{
+		if(SIZE_SCALE.equals(key))
+		{
+			sizeScale = dataManager.get(SIZE_SCALE);
+			recalculateSize();
+		}
+		super.notifyDataManagerChange(key);
+	}
+	
+	private void setGristValue(long value)
+	{
+		gristValue = value;
+		sizeScale = (float) Math.pow(value, 0.25);
+		dataManager.set(SIZE_SCALE, sizeScale);
+		recalculateSize();
+	}
 	
 	/**
 	 * returns if this entity triggers Block.onEntityWalking on the blocks they walk on. used for spiders and wolves to
@@ -135,7 +165,7 @@ public class GristEntity extends Entity implements IEntityAdditionalSpawnData
 		{
 			if (this.closestPlayer == null || this.closestPlayer.getDistanceSq(this) > d0 * d0)
 			{
-				this.closestPlayer = this.world.getClosestPlayer(this, d0);
+				this.closestPlayer = GristTickData.get(world).getClosestPlayer(this, d0);
 			}
 
 			this.targetCycle = this.cycle;
@@ -179,6 +209,30 @@ public class GristEntity extends Entity implements IEntityAdditionalSpawnData
 			this.remove();
 		}
 		
+		if(!world.isRemote && isAlive() && gristAge >= MERGE_MIN_AGE && MinestuckConfig.mergeGristEntities.get())
+		{
+			GristEntity other = GristTickData.get(world).findOrAddToBucket(this);
+			if(other != null)
+				other.merge(this);
+		}
+	}
+	
+	/**
+	 * @return true if the other grist entity can be merged into this one without going over the max merged value
+	 */
+	boolean canMerge(GristEntity other)
+	{
+		return other.isAlive() && other.gristType == gristType && gristValue + other.gristValue <= MAX_MERGED_VALUE;
+	}
+	
+	/**
+	 * Adds the value of the other grist entity to this one and removes the other entity, similar to experience orbs.
+	 */
+	private void merge(GristEntity other)
+	{
+		setGristValue(gristValue + other.gristValue);
+		gristAge = Math.min(gristAge, other.gristAge);
+		other.remove();
 	}
 
 	/*
@@ -195,7 +249,7 @@ public class GristEntity extends Entity implements IEntityAdditionalSpawnData
 	{
 		compound.putShort("Health", (short)this.gristHealth);
 		compound.putShort("Age", (short)this.gristAge);
-		compound.putLong("Value", (short)this.gristValue);
+		compound.putLong("Value", this.gristValue);
 		compound.putString("Type", gristType.getRegistryName().toString());
 	}
 	
@@ -205,7 +259,7 @@ public class GristEntity extends Entity implements IEntityAdditionalSpawnData
 		this.gristHealth = compound.getShort("Health") & 255;
 		this.gristAge = compound.getShort("Age");
 		if(compound.contains("Value", Constants.NBT.TAG_ANY_NUMERIC))
-			this.gristValue = compound.getLong("Value");
+			setGristValue(compound.getLong("Value"));
 		if(compound.contains("Type", Constants.NBT.TAG_STRING))
 			this.gristType = GristType.read(compound, "Type");
 	}
@@ -255,11 +309,11 @@ public class GristEntity extends Entity implements IEntityAdditionalSpawnData
 	@Override
 	public EntitySize getSize(Pose poseIn)
 	{
-		return super.getSize(poseIn).scale((float) Math.pow(gristValue, .25));
+		return super.getSize(poseIn).scale(sizeScale);
 	}
 
 	public float getSizeByValue() {
-		return (float)(Math.pow((double)this.gristValue, 0.25D) / 3.0D);
+		return sizeScale / 3F;
 	}
 
 	@Override
@@ -273,7 +327,7 @@ public class GristEntity extends Entity implements IEntityAdditionalSpawnData
 	public void readSpawnData(PacketBuffer data)
 	{
 		gristType = data.readRegistryIdSafe(GristType.class);
-		gristValue = data.readLong();
+		setGristValue(data.readLong());
 	}
 	
 	@Override
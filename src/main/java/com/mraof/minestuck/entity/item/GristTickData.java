@@ -0,0 +1,115 @@
+package com.mraof.minestuck.entity.item;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.EntityPredicates;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Data shared by the grist entities of a world during a single tick.
+ * Grist entities are put in buckets by position, so that entities of the same type within merge distance can be found by only looking through nearby buckets.
+ * Players that grist entities may be attracted to are also looked up once per chunk, instead of once per grist entity.
+ * Everything is cleared at the end of the world tick and when the world is unloaded, so that no entities or worlds are kept after the tick.
+ * Each side has its own data, since client and server worlds are ticked on different threads.
+ */
+public final class GristTickData
+{
+	private static final Map<World, GristTickData> SERVER_DATA = new WeakHashMap<>(), CLIENT_DATA = new WeakHashMap<>();
+	
+	private static final int BUCKET_BITS = 1;	//Buckets of 2x2x2 blocks, so that anything within merge distance is in the same or an adjacent bucket
+	private static final double MERGE_DISTANCE = 1 << BUCKET_BITS;
+	private static final double PLAYER_SEARCH_RANGE = 16;	//Distance around each chunk in which players are cached. Larger lookups go directly to the world
+	
+	private long gameTime;
+	private final Map<Long, List<GristEntity>> buckets = new HashMap<>();
+	private final Map<Long, List<PlayerEntity>> nearbyPlayers = new HashMap<>();
+	
+	static GristTickData get(World world)
+	{
+		GristTickData data = (world.isRemote ? CLIENT_DATA : SERVER_DATA).computeIfAbsent(world, key -> new GristTickData());
+		if(data.gameTime != world.getGameTime())
+		{
+			data.gameTime = world.getGameTime();
+			data.buckets.clear();
+			data.nearbyPlayers.clear();
+		}
+		return data;
+	}
+	
+	/**
+	 * Drops the data for the world. Called at the end of each world tick and when the world is unloaded.
+	 */
+	public static void clear(IWorld world)
+	{
+		(world.isRemote() ? CLIENT_DATA : SERVER_DATA).remove(world);
+	}
+	
+	/**
+	 * Looks through the bucket of the grist entity and the 26 buckets around it for a grist entity that it can merge with,
+	 * and puts the grist entity in its bucket if there is none.
+	 * @return a grist entity within merge distance that the given one can be merged into, or null if there was none
+	 */
+	@Nullable
+	GristEntity findOrAddToBucket(GristEntity entity)
+	{
+		int x = MathHelper.floor(entity.posX) >> BUCKET_BITS, y = MathHelper.floor(entity.posY) >> BUCKET_BITS, z = MathHelper.floor(entity.posZ) >> BUCKET_BITS;
+		for(int dx = -1; dx <= 1; dx++)
+			for(int dy = -1; dy <= 1; dy++)
+				for(int dz = -1; dz <= 1; dz++)
+				{
+					List<GristEntity> bucket = buckets.get(BlockPos.pack(x + dx, y + dy, z + dz));
+					if(bucket == null)
+						continue;
+					for(GristEntity other : bucket)
+						if(other.canMerge(entity) && other.getDistanceSq(entity) <= MERGE_DISTANCE * MERGE_DISTANCE)
+							return other;
+				}
+		
+		buckets.computeIfAbsent(BlockPos.pack(x, y, z), pos -> new ArrayList<>(1)).add(entity);
+		return null;
+	}
+	
+	/**
+	 * Finds the closest player within the distance, the same way as {@link World#getClosestPlayer(Entity, double)}.
+	 */
+	@Nullable
+	PlayerEntity getClosestPlayer(Entity entity, double distance)
+	{
+		if(distance > PLAYER_SEARCH_RANGE)
+			return entity.world.getClosestPlayer(entity, distance);
+		
+		int chunkX = MathHelper.floor(entity.posX) >> 4, chunkZ = MathHelper.floor(entity.posZ) >> 4;
+		List<PlayerEntity> players = nearbyPlayers.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), pos -> findPlayersNear(entity.world, chunkX, chunkZ));
+		
+		PlayerEntity closest = null;
+		double closestDistanceSq = distance * distance;
+		for(PlayerEntity player : players)
+		{
+			double distanceSq = player.getDistanceSq(entity.posX, entity.posY, entity.posZ);
+			if(distanceSq < closestDistanceSq)
+			{
+				closest = player;
+				closestDistanceSq = distanceSq;
+			}
+		}
+		return closest;
+	}
+	
+	private static List<PlayerEntity> findPlayersNear(World world, int chunkX, int chunkZ)
+	{
+		double minX = (chunkX << 4) - PLAYER_SEARCH_RANGE, maxX = (chunkX << 4) + 16 + PLAYER_SEARCH_RANGE;
+		double minZ = (chunkZ << 4) - PLAYER_SEARCH_RANGE, maxZ = (chunkZ << 4) + 16 + PLAYER_SEARCH_RANGE;
+		List<PlayerEntity> players = new ArrayList<>(1);
+		for(PlayerEntity player : world.getPlayers())
+			if(EntityPredicates.NOT_SPECTATING.test(player) && player.posX >= minX && player.posX <= maxX && player.posZ >= minZ && player.posZ <= maxZ)
+				players.add(player);
+		return players;
+	}
+}
@@ -62,8 +62,7 @@ public abstract class UnderlingEntity extends MinestuckEntity implements IMob
 	@Override
 	protected void registerGoals()
 	{
-		attackEntitySelector = new EntityListFilter(new ArrayList<>());
-		attackEntitySelector.entityList.add(EntityType.PLAYER);
+		attackEntitySelector = new EntityListFilter(Collections.singletonList(EntityType.PLAYER));
 		
 		goalSelector.addGoal(1, new SwimGoal(this));
 		goalSelector.addGoal(4, new MoveTowardsRestrictionGoal(this, getWanderSpeed()));
@@ -228,9 +227,9 @@ public abstract class UnderlingEntity extends MinestuckEntity implements IMob
 
 	public void addEnemy(EntityType<?> enemyType)
 	{
-		if(!attackEntitySelector.entityList.contains(enemyType) && !MSTags.EntityTypes.UNDERLINGS.contains(enemyType))
+		if(!attackEntitySelector.containsType(enemyType) && !MSTags.EntityTypes.UNDERLINGS.contains(enemyType))
 		{
-			attackEntitySelector.entityList.add(enemyType);
+			attackEntitySelector.addType(enemyType);
 		}
 	}
 	
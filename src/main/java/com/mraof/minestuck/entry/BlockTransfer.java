@@ -0,0 +1,392 @@
+package com.mraof.minestuck.entry;
+
+import com.mraof.minestuck.MinestuckConfig;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.IChunk;
+import net.minecraft.world.server.ServerWorld;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+
+/**
+ * Moves the blocks of an entry from one world to another.
+ * Blocks are tracked as vertical spans per column instead of as one object per block,
+ * and regular blocks are copied directly between chunk sections, skipping sections that only contain air.
+ * Blocks that are replaced with block updates (bedrock and nether portals) and tile entities are handled in a separate pass afterwards,
+ * in bottom-to-top order, since they may depend on the regular blocks around them being in place.
+ * Copying regular blocks can be spread over several ticks, and can be rolled back until the separate pass has been done.
+ */
+final class BlockTransfer
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+	
+	private static final Comparator<BlockPos> BOTTOM_UP = Comparator.comparingInt(BlockPos::getY).thenComparingInt(BlockPos::getX).thenComparingInt(BlockPos::getZ);
+	
+	private final ServerWorld sourceWorld;
+	private final int xDiff, yDiff, zDiff;
+	private final Map<Long, Column> columns = new LinkedHashMap<>();
+	private final List<BlockPos> updatedBlocks = new ArrayList<>();	//Source positions of blocks that are replaced with air together with block updates
+	private final List<TileEntity> tileEntities = new ArrayList<>();
+	private List<List<Column>> destinationChunks;
+	private int copiedChunks;
+	private final List<BlockPos> changedPositions = new ArrayList<>();	//Destination positions changed by copyBlocks(), together with the states they had before
+	private final List<BlockState> previousStates = new ArrayList<>();
+	
+	private long scanTime, copyTime, updateTime, removeTime;
+	
+	BlockTransfer(ServerWorld sourceWorld, int xDiff, int yDiff, int zDiff)
+	{
+		this.sourceWorld = sourceWorld;
+		this.xDiff = xDiff;
+		this.yDiff = yDiff;
+		this.zDiff = zDiff;
+	}
+	
+	/**
+	 * Adds the blocks between minY and maxY (inclusive) of a column to the transfer.
+	 * At the destination, blocks above the column are replaced with air.
+	 */
+	void addColumn(int x, int z, int minY, int maxY)
+	{
+		long time = System.nanoTime();
+		
+		Chunk chunk = sourceWorld.getChunk(x >> 4, z >> 4);
+		columns.put(columnKey(x, z), new Column(chunk, x, z, minY, maxY));
+		
+		ChunkSection[] sections = chunk.getSections();
+		for(int y = minY; y <= maxY; y++)
+		{
+			ChunkSection section = sections[y >> 4];
+			if(isEmpty(section))
+			{
+				y |= 15;	//Skip to the top of the section
+				continue;
+			}
+			if(needsUpdate(section.getBlockState(x & 15, y & 15, z & 15)))
+				updatedBlocks.add(new BlockPos(x, y, z));
+		}
+		
+		scanTime += System.nanoTime() - time;
+	}
+	
+	/**
+	 * Finds the tile entities within the transfer by going through the tile entities of each chunk, instead of checking each position.
+	 * Should be called after all columns have been added.
+	 * @return the tile entities in bottom-to-top order
+	 */
+	List<TileEntity> collectTileEntities()
+	{
+		long time = System.nanoTime();
+		
+		tileEntities.clear();
+		Set<Chunk> chunks = Collections.newSetFromMap(new IdentityHashMap<>());
+		for(Column column : columns.values())
+			chunks.add(column.chunk);
+		
+		for(Chunk chunk : chunks)
+		{
+			for(Map.Entry<BlockPos, TileEntity> entry : chunk.getTileEntityMap().entrySet())
+			{
+				BlockPos pos = entry.getKey();
+				Column column = columns.get(columnKey(pos.getX(), pos.getZ()));
+				if(column != null && pos.getY() >= column.minY && pos.getY() <= column.maxY)
+					tileEntities.add(entry.getValue());
+			}
+		}
+		tileEntities.sort(Comparator.comparing(TileEntity::getPos, BOTTOM_UP));
+		
+		scanTime += System.nanoTime() - time;
+		return Collections.unmodifiableList(tileEntities);
+	}
+	
+	/**
+	 * Copies regular blocks to the destination, one destination chunk at a time, until all chunks are done or the end time has passed.
+	 * Blocks that need updates and tile entities are left for {@link #copyUpdatedBlocksAndTileEntities}.
+	 * @param endTime the time (as given by {@link System#currentTimeMillis()}) after which no more chunks should be started
+	 * @return true if all blocks have been copied
+	 */
+	boolean copyBlocks(ServerWorld destination, long endTime)
+	{
+		long time = System.nanoTime();
+		
+		if(destinationChunks == null)
+		{
+			Map<Long, List<Column>> columnsByDestination = new LinkedHashMap<>();
+			for(Column column : columns.values())
+				columnsByDestination.computeIfAbsent(ChunkPos.asLong((column.x + xDiff) >> 4, (column.z + zDiff) >> 4), pos -> new ArrayList<>()).add(column);
+			destinationChunks = new ArrayList<>(columnsByDestination.values());
+		}
+		
+		while(copiedChunks < destinationChunks.size())
+		{
+			List<Column> chunkColumns = destinationChunks.get(copiedChunks++);
+			Column first = chunkColumns.get(0);
+			ChunkPos chunkPos = new ChunkPos((first.x + xDiff) >> 4, (first.z + zDiff) >> 4);
+			Chunk destChunk = destination.getChunk(chunkPos.x, chunkPos.z);
+			ChunkSection[] destSections = destChunk.getSections();
+			boolean[] wasEmpty = new boolean[destSections.length];
+			for(int i = 0; i < destSections.length; i++)
+				wasEmpty[i] = isEmpty(destSections[i]);
+			
+			for(Column column : chunkColumns)
+				copyColumn(destination, destChunk, column);
+			
+			//Like with Chunk.setBlockState(), the light manager needs to know about sections that became empty or non-empty
+			for(int i = 0; i < destSections.length; i++)
+			{
+				boolean empty = isEmpty(destSections[i]);
+				if(empty != wasEmpty[i])
+					destination.getChunkProvider().getLightManager().func_215567_a(new BlockPos(chunkPos.getXStart(), i << 4, chunkPos.getZStart()), empty);
+			}
+			destChunk.markDirty();
+			
+			if(System.currentTimeMillis() >= endTime)
+				break;
+		}
+		
+		copyTime += System.nanoTime() - time;
+		return copiedChunks >= destinationChunks.size();
+	}
+	
+	private void copyColumn(ServerWorld destination, Chunk destChunk, Column column)
+	{
+		ChunkSection[] sourceSections = column.chunk.getSections();
+		ChunkSection[] destSections = destChunk.getSections();
+		int destX = column.x + xDiff, destZ = column.z + zDiff;
+		int x = column.x & 15, z = column.z & 15;
+		
+		for(int y = column.minY; y <= column.maxY; y++)
+		{
+			int destY = y + yDiff;
+			ChunkSection sourceSection = sourceSections[y >> 4];
+			BlockState state = isEmpty(sourceSection) ? Blocks.AIR.getDefaultState() : sourceSection.getBlockState(x, y & 15, z);
+			if(needsUpdate(state))
+				continue;
+			
+			ChunkSection destSection = destSections[destY >> 4];
+			if(state == Blocks.AIR.getDefaultState())
+			{
+				if(!isEmpty(destSection))
+					clearBlock(destination, destSection, new BlockPos(destX, destY, destZ));
+			} else
+			{
+				if(destSection == Chunk.EMPTY_SECTION)
+					destSection = destSections[destY >> 4] = new ChunkSection(destY >> 4 << 4);
+				BlockState previous = destSection.getBlockState(destX & 15, destY & 15, destZ & 15);
+				if(previous.getBlock() == Blocks.BEDROCK || previous == state)
+					continue;
+				destSection.setBlockState(destX & 15, destY & 15, destZ & 15, state);
+				changedPositions.add(new BlockPos(destX, destY, destZ));
+				previousStates.add(previous);
+			}
+		}
+		
+		//Replace anything above the column with air
+		for(int destY = Math.max(0, Math.max(column.minY, column.maxY + 1) + yDiff); destY <= 255; destY++)
+		{
+			ChunkSection destSection = destSections[destY >> 4];
+			if(isEmpty(destSection))
+				destY |= 15;	//Skip to the top of the section
+			else clearBlock(destination, destSection, new BlockPos(destX, destY, destZ));
+		}
+	}
+	
+	/**
+	 * Replaces a non-bedrock block with air through the world, which also takes care of tile entities, heightmaps and lighting.
+	 * Does nothing if the block is already air, as that is what the world would do anyway.
+	 */
+	private void clearBlock(ServerWorld world, ChunkSection section, BlockPos pos)
+	{
+		BlockState current = section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+		if(current != Blocks.AIR.getDefaultState() && current.getBlock() != Blocks.BEDROCK)
+		{
+			world.setBlockState(pos, Blocks.AIR.getDefaultState(), 0);
+			changedPositions.add(pos);
+			previousStates.add(current);
+		}
+	}
+	
+	/**
+	 * Restores the destination blocks changed by {@link #copyBlocks}, for when entry fails before it is finished.
+	 * Tile entities that were at the destination beforehand are not restored,
+	 * but those are rare in a newly generated land.
+	 */
+	void rollback(ServerWorld destination)
+	{
+		for(int i = changedPositions.size() - 1; i >= 0; i--)
+			destination.setBlockState(changedPositions.get(i), previousStates.get(i), 0);
+		LOGGER.info("Rolled back {} blocks of an unfinished entry", changedPositions.size());
+		changedPositions.clear();
+		previousStates.clear();
+		destinationChunks = null;
+		copiedChunks = 0;
+	}
+	
+	/**
+	 * Replaces the blocks that need updates with air, and then copies tile entities, both in bottom-to-top order.
+	 * Tile entities are collected again first, since they may have been placed or removed while blocks were being copied.
+	 * Tile entities whose block was not copied are left in the source world.
+	 * Registered {@link EntryBlockProcessing} instances are called for each copied tile entity,
+	 * and those that {@link EntryBlockProcessing#processesAllBlocks() process all blocks} are afterwards also called for every other copied block.
+	 */
+	void copyUpdatedBlocksAndTileEntities(ServerWorld destination, Collection<EntryBlockProcessing> blockProcessors)
+	{
+		collectTileEntities();
+		long time = System.nanoTime();
+		
+		updatedBlocks.sort(BOTTOM_UP);
+		for(BlockPos source : updatedBlocks)
+		{
+			BlockPos dest = source.add(xDiff, yDiff, zDiff);
+			IChunk chunkTo = destination.getChunk(dest);
+			if(chunkTo.getBlockState(dest).getBlock() != Blocks.BEDROCK)
+				chunkTo.setBlockState(dest, Blocks.AIR.getDefaultState(), true);
+		}
+		
+		Iterator<TileEntity> iterator = tileEntities.iterator();
+		while(iterator.hasNext())
+		{
+			TileEntity tileEntity = iterator.next();
+			BlockPos source = tileEntity.getPos(), dest = source.add(xDiff, yDiff, zDiff);
+			IChunk chunkTo = destination.getChunk(dest);
+			Block destBlock = chunkTo.getBlockState(dest).getBlock();
+			if(destBlock == Blocks.BEDROCK)
+				continue;	//Blocked by bedrock
+			if(destBlock != tileEntity.getBlockState().getBlock())
+			{
+				iterator.remove();	//Placed after its column was copied, so the block stays behind (see removeSourceBlocks()), and the tile entity with it
+				continue;
+			}
+			
+			CompoundNBT nbt = new CompoundNBT();
+			tileEntity.write(nbt);
+			nbt.putInt("x", dest.getX());
+			nbt.putInt("y", dest.getY());
+			nbt.putInt("z", dest.getZ());
+			TileEntity newTE = TileEntity.create(nbt);
+			if(newTE != null)
+				chunkTo.addTileEntity(dest, newTE);
+			else LOGGER.warn("Unable to create a new tile entity {} when teleporting blocks to the medium!", tileEntity.getType().getRegistryName());
+			
+			for(EntryBlockProcessing processing : blockProcessors)
+				processing.copyOver(sourceWorld, source, destination, dest, tileEntity.getBlockState(), tileEntity, newTE);
+		}
+		
+		List<EntryBlockProcessing> allBlockProcessors = new ArrayList<>();
+		for(EntryBlockProcessing processing : blockProcessors)
+			if(processing.processesAllBlocks())
+				allBlockProcessors.add(processing);
+		if(!allBlockProcessors.isEmpty())
+			processOtherBlocks(destination, allBlockProcessors);
+		
+		changedPositions.clear();	//Past the point where a rollback is possible
+		previousStates.clear();
+		updateTime += System.nanoTime() - time;
+	}
+	
+	/**
+	 * Calls the block processors for each copied block without a tile entity, column by column from the bottom up.
+	 */
+	private void processOtherBlocks(ServerWorld destination, List<EntryBlockProcessing> blockProcessors)
+	{
+		Set<BlockPos> tileEntityPositions = new HashSet<>();
+		for(TileEntity tileEntity : tileEntities)
+			tileEntityPositions.add(tileEntity.getPos());
+		
+		for(Column column : columns.values())
+		{
+			for(int y = column.minY; y <= column.maxY; y++)
+			{
+				BlockPos source = new BlockPos(column.x, y, column.z), dest = source.add(xDiff, yDiff, zDiff);
+				if(tileEntityPositions.contains(source) || destination.getBlockState(dest).getBlock() == Blocks.BEDROCK)
+					continue;
+				
+				BlockState state = column.chunk.getBlockState(source);
+				for(EntryBlockProcessing processing : blockProcessors)
+					processing.copyOver(sourceWorld, source, destination, dest, state, null, null);
+			}
+		}
+	}
+	
+	/**
+	 * Removes tile entities from the source world, and if {@link MinestuckConfig#entryCrater} is enabled, all other non-bedrock blocks as well.
+	 * Blocks that don't match what was copied to the destination (because they were placed after their column was copied) are not removed.
+	 */
+	void removeSourceBlocks(ServerWorld destination, boolean creative)
+	{
+		long time = System.nanoTime();
+		
+		for(TileEntity tileEntity : tileEntities)
+			EntryProcess.removeTileEntity(sourceWorld, tileEntity.getPos(), creative);	//Tile entities need special treatment
+		
+		if(MinestuckConfig.entryCrater.get())
+		{
+			//Blocks that were changed after their column was copied never made it to the destination, so they are left alone
+			BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(), dest = new BlockPos.MutableBlockPos();
+			for(Column column : columns.values())
+			{
+				for(int y = column.maxY; y >= column.minY; y--)
+				{
+					pos.setPos(column.x, y, column.z);
+					dest.setPos(column.x + xDiff, y + yDiff, column.z + zDiff);
+					BlockState state = column.chunk.getBlockState(pos);
+					if(state != Blocks.AIR.getDefaultState() && state.getBlock() != Blocks.BEDROCK && !needsUpdate(state)
+							&& (state == destination.getBlockState(dest) || destination.getBlockState(dest).getBlock() == Blocks.BEDROCK))
+						sourceWorld.setBlockState(pos, Blocks.AIR.getDefaultState(), 2);
+				}
+			}
+			for(BlockPos source : updatedBlocks)
+				if(sourceWorld.getBlockState(source).getBlock() == Blocks.NETHER_PORTAL)
+					sourceWorld.setBlockState(source, Blocks.AIR.getDefaultState(), 3);
+		}
+		
+		removeTime += System.nanoTime() - time;
+	}
+	
+	void logTimings()
+	{
+		LOGGER.info("Entry block transfer of {} columns with {} tile entities: scan {} ms, copy {} ms, updated blocks and tile entities {} ms, removal {} ms",
+				columns.size(), tileEntities.size(), scanTime / 1000000, copyTime / 1000000, updateTime / 1000000, removeTime / 1000000);
+	}
+	
+	private static boolean needsUpdate(BlockState state)
+	{
+		Block block = state.getBlock();
+		return block == Blocks.BEDROCK || block == Blocks.NETHER_PORTAL;
+	}
+	
+	private static boolean isEmpty(ChunkSection section)
+	{
+		return section == Chunk.EMPTY_SECTION || section.isEmpty();
+	}
+	
+	private static long columnKey(int x, int z)
+	{
+		return (long) x << 32 | z & 0xFFFFFFFFL;
+	}
+	
+	private static class Column
+	{
+		private final Chunk chunk;
+		private final int x, z;
+		private final int minY, maxY;
+		
+		private Column(Chunk chunk, int x, int z, int minY, int maxY)
+		{
+			this.chunk = chunk;
+			this.x = x;
+			this.z = z;
+			this.minY = minY;
+			this.maxY = maxY;
+		}
+	}
+}
@@ -17,4 +17,10 @@ public class ComputerBlockProcess implements EntryBlockProcessing
 		if(oldTE instanceof ComputerTileEntity && newTE instanceof ComputerTileEntity)
 			SkaianetHandler.get(oldWorld).movingComputer((ComputerTileEntity) oldTE, (ComputerTileEntity) newTE);
 	}
+	
+	@Override
+	public boolean processesAllBlocks()
+	{
+		return false;
+	}
 }
\ No newline at end of file
@@ -9,5 +9,18 @@ import javax.annotation.Nullable;
 
 public interface EntryBlockProcessing
 {
+	/**
+	 * Called for each block with a tile entity that is moved during entry, after all regular blocks have been copied.
+	 * If {@link #processesAllBlocks()} returns true, this is afterwards also called for every other moved block, with null tile entities.
+	 */
 	void copyOver(ServerWorld oldWorld, BlockPos oldPos, ServerWorld newWorld, BlockPos newPos, BlockState state, @Nullable TileEntity oldTE, @Nullable TileEntity newTE);
+	
+	/**
+	 * Going through every moved block is slow for large entries, so processors that only act on tile entities should return false.
+	 * @return true if {@link #copyOver} should be called for every moved block, and not only for blocks with tile entities
+	 */
+	default boolean processesAllBlocks()
+	{
+		return true;
+	}
 }
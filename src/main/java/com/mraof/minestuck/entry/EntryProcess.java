@@ -1,5 +1,6 @@
 package com.mraof.minestuck.entry;
 
+import com.mraof.minestuck.Minestuck;
 import com.mraof.minestuck.MinestuckConfig;
 import com.mraof.minestuck.block.GateBlock;
 import com.mraof.minestuck.block.MSBlocks;
@@ -17,7 +18,6 @@ import com.mraof.minestuck.world.GateHandler;
 import com.mraof.minestuck.world.MSDimensions;
 import com.mraof.minestuck.world.storage.MSExtraData;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.ItemEntity;
@@ -27,20 +27,19 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.StringTextComponent;
 import net.minecraft.util.text.Style;
 import net.minecraft.util.text.TextFormatting;
-import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
-import net.minecraft.world.chunk.ChunkSection;
-import net.minecraft.world.chunk.IChunk;
 import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.world.server.ServerWorld;
+import net.minecraft.world.server.TicketType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import javax.annotation.Nullable;
 import java.util.*;
 
 import static com.mraof.minestuck.MinestuckConfig.artifactRange;
@@ -56,19 +55,54 @@ public class EntryProcess
 		blockProcessors.add(processing);
 	}
 	
+	/**
+	 * The maximum amount of time (in milliseconds) to spend on entries in progress each tick, shared between all of them.
+	 */
+	private static final long MAX_TICK_TIME = 20;
+	/**
+	 * The number of ticks to wait for chunks to load before the entry is cancelled.
+	 */
+	private static final int CHUNK_LOAD_TIMEOUT = 1200;
+	
+	private static final TicketType<ChunkPos> ENTRY_TICKET = TicketType.create(Minestuck.MOD_ID + ":entry", Comparator.comparingLong(ChunkPos::asLong));
+	
+	private static final List<EntryProcess> ACTIVE_ENTRIES = new ArrayList<>();
+	
+	/**
+	 * An entry goes through these stages over several ticks, while the player is held in place.
+	 * If it fails before teleporting the player, any blocks copied to the land are rolled back.
+	 */
+	private enum Stage
+	{
+		LOADING_CHUNKS,	//Waiting for the source and destination chunks to load, which generates the destination chunks in the background
+		SCANNING,		//Collecting the blocks to move, time-sliced by x-coordinate
+		COPYING,		//Copying regular blocks to the land, time-sliced by destination chunk
+		FINISHING		//Teleporting the player, copying tile entities and removing the original blocks, all in one tick
+	}
+	
+	private ServerPlayerEntity player;
+	private PlayerIdentifier identifier;
+	private ServerWorld oldWorld, newWorld;
+	private Stage stage;
+	private int ticksWaited;
+	private int scanX;
+	private double holdX, holdY, holdZ;
+	private final List<ChunkPos> oldChunks = new ArrayList<>(), newChunks = new ArrayList<>();
+	private boolean teleported;
+	
 	private int xDiff;
 	private int yDiff;
 	private int zDiff;
 	private int topY;
 	private BlockPos origin;
 	private boolean creative;
-	private HashSet<BlockMove> blockMoves;
+	private BlockTransfer blockTransfer;
 	
 	public void onArtifactActivated(ServerPlayerEntity player)
 	{
 		try
 		{
-			if(player.world.getDimension().getType() != DimensionType.THE_NETHER)
+			if(player.world.getDimension().getType() != DimensionType.THE_NETHER && !isInTransit(player))
 			{
 				if(!SburbHandler.shouldEnterNow(player))
 					return;
@@ -114,18 +148,7 @@ public class EntryProcess
 							return;
 						}
 						
-						if(this.prepareDestination(player.getPosition(), player, oldWorld))
-						{
-							moveBlocks(oldWorld, newWorld);
-							if(Teleport.teleportEntity(player, newWorld) != null)
-							{
-								finalizeDestination(player, oldWorld, newWorld);
-								SkaianetHandler.get(player.world).onEntry(identifier);
-							} else
-							{
-								player.sendMessage(new StringTextComponent("Entry failed. Unable to teleport you!"));
-							}
-						}
+						start(player, identifier, oldWorld, newWorld);
 					}
 				}
 			}
@@ -136,78 +159,217 @@ public class EntryProcess
 		}
 	}
 	
-	private boolean prepareDestination(BlockPos origin, ServerPlayerEntity player, ServerWorld worldserver0)
+	/**
+	 * @return true if the player has an entry in progress, during which they are kept in place and can't be hurt.
+	 */
+	public static boolean isInTransit(PlayerEntity player)
 	{
+		for(EntryProcess process : ACTIVE_ENTRIES)
+			if(process.player == player)
+				return true;
+		return false;
+	}
+	
+	/**
+	 * Advances all entries in progress. Called once every server tick.
+	 */
+	public static void tickEntries()
+	{
+		if(ACTIVE_ENTRIES.isEmpty())
+			return;
 		
-		blockMoves = new HashSet<>();
-		
+		long endTime = System.currentTimeMillis() + MAX_TICK_TIME;
+		for(EntryProcess process : new ArrayList<>(ACTIVE_ENTRIES))	//Copied since teleporting the player may cause other code to look at the list
+		{
+			if(process.tick(endTime))
+				ACTIVE_ENTRIES.remove(process);
+		}
+	}
+	
+	/**
+	 * Cancels and rolls back all entries in progress. Called when the server is stopping.
+	 */
+	public static void cancelEntries()
+	{
+		for(EntryProcess process : ACTIVE_ENTRIES)
+			process.fail("Entry was cancelled because the server is stopping.");
+		ACTIVE_ENTRIES.clear();
+	}
+	
+	private void start(ServerPlayerEntity player, PlayerIdentifier identifier, ServerWorld oldWorld, ServerWorld newWorld)
+	{
 		LOGGER.info("Starting entry for player {}", player.getName().getFormattedText());
+		this.player = player;
+		this.identifier = identifier;
+		this.oldWorld = oldWorld;
+		this.newWorld = newWorld;
+		origin = player.getPosition();
+		holdX = player.posX;
+		holdY = player.posY;
+		holdZ = player.posZ;
+		creative = player.interactionManager.isCreative();
+		xDiff = 0 - origin.getX();
+		zDiff = 0 - origin.getZ();
+		
+		int range = artifactRange.get();
+		for(int chunkX = (origin.getX() - range) >> 4; chunkX <= (origin.getX() + range) >> 4; chunkX++)
+			for(int chunkZ = (origin.getZ() - range) >> 4; chunkZ <= (origin.getZ() + range) >> 4; chunkZ++)
+				oldChunks.add(new ChunkPos(chunkX, chunkZ));
+		for(int chunkX = (origin.getX() - range + xDiff) >> 4; chunkX <= (origin.getX() + range + xDiff) >> 4; chunkX++)
+			for(int chunkZ = (origin.getZ() - range + zDiff) >> 4; chunkZ <= (origin.getZ() + range + zDiff) >> 4; chunkZ++)
+				newChunks.add(new ChunkPos(chunkX, chunkZ));
+		
+		for(ChunkPos pos : oldChunks)
+			oldWorld.getChunkProvider().registerTicket(ENTRY_TICKET, pos, 0, pos);
+		for(ChunkPos pos : newChunks)
+			newWorld.getChunkProvider().registerTicket(ENTRY_TICKET, pos, 0, pos);
+		
+		stage = Stage.LOADING_CHUNKS;
+		ACTIVE_ENTRIES.add(this);
+	}
+	
+	/**
+	 * Does as much work on this entry as it can before the end time.
+	 * @return true if the entry is done, either because it finished or because it failed
+	 */
+	private boolean tick(long endTime)
+	{
+		try
+		{
+			if(!player.isAlive() || player.hasDisconnected() || player.world != oldWorld)
+			{
+				LOGGER.warn("Player {} died or left the world during entry. Cancelling entry.", player.getName().getFormattedText());
+				fail("Entry was cancelled.");
+				return true;
+			}
+			holdPlayer();
+			
+			if(stage == Stage.LOADING_CHUNKS)
+			{
+				if(!areChunksLoaded())
+				{
+					if(++ticksWaited >= CHUNK_LOAD_TIMEOUT)
+					{
+						LOGGER.warn("Chunks for the entry of {} did not load in time. Cancelling entry.", player.getName().getFormattedText());
+						fail("Entry failed. Your land took too long to load.");
+						return true;
+					}
+					return false;
+				}
+				LOGGER.debug("Chunks loaded after {} ticks", ticksWaited);
+				stage = Stage.SCANNING;
+			}
+			
+			if(stage == Stage.SCANNING)
+			{
+				if(!scanBlocks(endTime))
+					return false;
+				if(!checkBlocks())
+				{
+					fail(null);
+					return true;
+				}
+				stage = Stage.COPYING;
+			}
+			
+			if(stage == Stage.COPYING)
+			{
+				LOGGER.debug("Moving blocks...");
+				if(!blockTransfer.copyBlocks(newWorld, endTime))
+					return false;
+				stage = Stage.FINISHING;
+			}
+			
+			finish();
+		} catch(Exception e)
+		{
+			LOGGER.error("Exception when {} tried to enter their land.", player.getName().getFormattedText(), e);
+			player.sendMessage(new StringTextComponent("[Minestuck] Something went wrong during entry. "+ (player.getServer().isDedicatedServer()?"Check the console for the error message.":"Notify the server owner about this.")).setStyle(new Style().setColor(TextFormatting.RED)));
+			fail(null);
+		}
+		return true;
+	}
+	
+	/**
+	 * Keeps the player at the position where they started entry.
+	 */
+	private void holdPlayer()
+	{
+		if(player.getDistanceSq(holdX, holdY, holdZ) > 0.01)
+			player.connection.setPlayerLocation(holdX, holdY, holdZ, player.rotationYaw, player.rotationPitch);
+		player.fallDistance = 0;
+	}
+	
+	private boolean areChunksLoaded()
+	{
+		for(ChunkPos pos : oldChunks)
+			if(!oldWorld.isBlockLoaded(pos.asBlockPos()))
+				return false;
+		for(ChunkPos pos : newChunks)
+			if(!newWorld.isBlockLoaded(pos.asBlockPos()))
+				return false;
+		return true;
+	}
+	
+	/**
+	 * Adds columns to the block transfer one x-coordinate at a time, until all columns have been added or the end time has passed.
+	 * @return true if all columns have been added
+	 */
+	private boolean scanBlocks(long endTime)
+	{
 		int x = origin.getX();
 		int y = origin.getY();
 		int z = origin.getZ();
-		this.origin = origin;
-		
-		creative = player.interactionManager.isCreative();
-		SburbConnection conn = SkaianetHandler.get(worldserver0).getMainConnection(IdentifierHandler.encode(player), true);
 		
-		topY = MinestuckConfig.adaptEntryBlockHeight.get() ? getTopHeight(worldserver0, x, y, z) : y + artifactRange.get();
-		yDiff = 127 - topY;
-		xDiff = 0 - x;
-		zDiff = 0 - z;
+		if(blockTransfer == null)
+		{
+			LOGGER.debug("Loading block movements...");
+			topY = MinestuckConfig.adaptEntryBlockHeight.get() ? getTopHeight(oldWorld, x, y, z) : y + artifactRange.get();
+			yDiff = 127 - topY;
+			blockTransfer = new BlockTransfer(oldWorld, xDiff, yDiff, zDiff);
+			scanX = x - artifactRange.get();
+		}
 		
-		LOGGER.debug("Loading block movements...");
-		long time = System.currentTimeMillis();
-		int bl = 0;
-		boolean foundComputer = false;
-		for(int blockX = x - artifactRange.get(); blockX <= x + artifactRange.get(); blockX++)
+		while(scanX <= x + artifactRange.get())
 		{
+			int blockX = scanX++;
 			int zWidth = (int) Math.sqrt((artifactRange.get()+0.5) * (artifactRange.get()+0.5) - (blockX - x) * (blockX - x));
 			for(int blockZ = z - zWidth; blockZ <= z + zWidth; blockZ++)
 			{
-				Chunk c = worldserver0.getChunk(blockX >> 4, blockZ >> 4);
-				
 				int height = (int) Math.sqrt(artifactRange.get() * artifactRange.get() - (((blockX - x) * (blockX - x) + (blockZ - z) * (blockZ - z)) / 2F));
 				
-				int blockY;
-				for(blockY = Math.max(0, y - height); blockY <= Math.min(topY, y + height); blockY++)
+				blockTransfer.addColumn(blockX, blockZ, Math.max(0, y - height), Math.min(topY, y + height));
+			}
+			
+			if(System.currentTimeMillis() >= endTime)
+				return scanX > x + artifactRange.get();
+		}
+		return true;
+	}
+	
+	/**
+	 * Checks that the blocks within the entry are allowed to be moved, and that there is a computer if one is needed.
+	 */
+	private boolean checkBlocks()
+	{
+		//Command blocks and computers both have tile entities, so only those need to be checked
+		boolean foundComputer = false;
+		for(TileEntity te : blockTransfer.collectTileEntities())
+		{
+			Block gotBlock = te.getBlockState().getBlock();
+			if(!creative && (gotBlock == Blocks.COMMAND_BLOCK || gotBlock == Blocks.CHAIN_COMMAND_BLOCK || gotBlock == Blocks.REPEATING_COMMAND_BLOCK))
+			{
+				player.sendStatusMessage(new StringTextComponent("You are not allowed to move command blocks."), false);
+				return false;
+			} else if(te instanceof ComputerTileEntity)		//If the block is a computer
+			{
+				if(!((ComputerTileEntity)te).owner.equals(identifier))	//You can't Enter with someone else's computer
 				{
-					BlockPos pos = new BlockPos(blockX, blockY, blockZ);
-					BlockPos pos1 = pos.add(xDiff, yDiff, zDiff);
-					BlockState block = worldserver0.getBlockState(pos);
-					TileEntity te = worldserver0.getTileEntity(pos);
-					
-					Block gotBlock = block.getBlock();
-					
-					if(gotBlock == Blocks.BEDROCK || gotBlock == Blocks.NETHER_PORTAL)
-					{
-						blockMoves.add(new BlockMove(c, pos, pos1, Blocks.AIR.getDefaultState(), true));
-						continue;
-					}
-					else if(!creative && (gotBlock == Blocks.COMMAND_BLOCK || gotBlock == Blocks.CHAIN_COMMAND_BLOCK || gotBlock == Blocks.REPEATING_COMMAND_BLOCK))
-					{
-						player.sendStatusMessage(new StringTextComponent("You are not allowed to move command blocks."), false);
-						return false;
-					} else if(te instanceof ComputerTileEntity)		//If the block is a computer
-					{
-						if(!((ComputerTileEntity)te).owner.equals(IdentifierHandler.encode((PlayerEntity) player)))	//You can't Enter with someone else's computer
-						{
-							player.sendStatusMessage(new StringTextComponent("You are not allowed to move other players' computers."), false);
-							return false;
-						}
-						
-						foundComputer = true;	//You have a computer in range. That means you're taking your computer with you when you Enter. Smart move.
-					}
-					
-					//Shouldn't this line check if the block is an edge block?
-					blockMoves.add(new BlockMove(c, pos, pos1, block, false));
+					player.sendStatusMessage(new StringTextComponent("You are not allowed to move other players' computers."), false);
+					return false;
 				}
 				
-				//What does this code accomplish?
-				for(blockY += yDiff; blockY <= 255; blockY++)
-				{
-					//The first BlockPos isn't used for this operation.
-					blockMoves.add(new BlockMove(c, BlockPos.ZERO, new BlockPos(blockX + xDiff, blockY, blockZ + zDiff), Blocks.AIR.getDefaultState(), false));
-				}
+				foundComputer = true;	//You have a computer in range. That means you're taking your computer with you when you Enter. Smart move.
 			}
 		}
 		
@@ -220,28 +382,55 @@ public class EntryProcess
 		return true;
 	}
 	
-	private void moveBlocks(ServerWorld worldserver0, ServerWorld worldserver1)
+	private void finish()
 	{
-		//This is split into two sections because moves that require block updates should happen after the ones that don't.
-		//This helps to ensure that "anchored" blocks like torches still have the blocks they are anchored to when they update.
-		//Some blocks like this (confirmed for torches, rails, and glowystone) will break themselves if they update without their anchor.
-		LOGGER.debug("Moving blocks...");
-		HashSet<BlockMove> blockMoves2 = new HashSet<>();
-		for(BlockMove move : blockMoves)
+		//The fudge here is to ensure that the AABB will always contain every entity meant to be moved.
+		// As entities outside the radius will be excluded from transport anyway, this is fine.
+		//The player is teleported before tile entities are copied, so that nothing has been done that can't be rolled back if the teleport fails
+		AxisAlignedBB entityTeleportBB = player.getBoundingBox().grow(artifactRange.get() + 0.5);
+		if(Teleport.teleportEntity(player, newWorld, player.posX + xDiff, player.posY + yDiff, player.posZ + zDiff) == null)
 		{
-			if(move.update)
-				move.copy(worldserver1, worldserver1.getChunk(move.dest));
-			else
-				blockMoves2.add(move);
+			fail("Entry failed. Unable to teleport you!");
+			return;
 		}
-		for(BlockMove move : blockMoves2)
+		teleported = true;
+		
+		try
 		{
-			move.copy(worldserver1, worldserver1.getChunk(move.dest));
+			blockTransfer.copyUpdatedBlocksAndTileEntities(newWorld, blockProcessors);
+			finalizeDestination(player, oldWorld, newWorld, entityTeleportBB);
+		} finally
+		{
+			//Once the player has been teleported, the entry can't be rolled back, so it has to count even if something after this fails
+			SkaianetHandler.get(newWorld).onEntry(identifier);
+			releaseTickets();
 		}
-		blockMoves2.clear();
 	}
 	
-	private void finalizeDestination(Entity player, ServerWorld worldserver0, ServerWorld worldserver1)
+	/**
+	 * Rolls back what has been done so far, unless the player has already been teleported, and tells the player why if a message is given.
+	 * Safe to call after {@link #finish()} has failed partway, as releasing tickets a second time does nothing.
+	 */
+	private void fail(@Nullable String message)
+	{
+		if(message != null)
+			player.sendMessage(new StringTextComponent(message));
+		if(!teleported && blockTransfer != null)
+			blockTransfer.rollback(newWorld);
+		releaseTickets();
+	}
+	
+	private void releaseTickets()
+	{
+		for(ChunkPos pos : oldChunks)
+			oldWorld.getChunkProvider().releaseTicket(ENTRY_TICKET, pos, 0, pos);
+		for(ChunkPos pos : newChunks)
+			newWorld.getChunkProvider().releaseTicket(ENTRY_TICKET, pos, 0, pos);
+		oldChunks.clear();
+		newChunks.clear();
+	}
+	
+	private void finalizeDestination(Entity player, ServerWorld worldserver0, ServerWorld worldserver1, AxisAlignedBB entityTeleportBB)
 	{
 		if(player instanceof ServerPlayerEntity)
 		{
@@ -250,9 +439,6 @@ public class EntryProcess
 			int z = origin.getZ();
 			
 			LOGGER.debug("Teleporting entities...");
-			//The fudge here is to ensure that the AABB will always contain every entity meant to be moved.
-			// As entities outside the radius will be excluded from transport anyway, this is fine.
-			AxisAlignedBB entityTeleportBB = player.getBoundingBox().grow(artifactRange.get() + 0.5);
 			List<Entity> list = worldserver0.getEntitiesWithinAABBExcludingEntity(player, entityTeleportBB);
 			Iterator<Entity> iterator = list.iterator();
 			while (iterator.hasNext())
@@ -289,21 +475,9 @@ public class EntryProcess
 			}
 			
 			LOGGER.debug("Removing original blocks");
-			for(BlockMove move : blockMoves)
-			{
-				removeTileEntity(worldserver0, move.source, creative);	//Tile entities need special treatment
-				
-				if(MinestuckConfig.entryCrater.get() && worldserver0.getBlockState(move.source).getBlock() != Blocks.BEDROCK)
-				{
-					if(move.update)
-						worldserver0.setBlockState(move.source, Blocks.AIR.getDefaultState(), 3);
-					else
-						worldserver0.setBlockState(move.source, Blocks.AIR.getDefaultState(), 2);
-				}
-			}
-			blockMoves.clear();
-			
-			player.setPositionAndUpdate(player.posX + xDiff, player.posY + yDiff, player.posZ + zDiff);
+			blockTransfer.removeSourceBlocks(worldserver1, creative);
+			blockTransfer.logTimings();
+			blockTransfer = null;
 			
 			SkaianetHandler.get(worldserver0).clearMovingList();
 			
@@ -360,7 +534,7 @@ public class EntryProcess
 	 * @param pos The position at which the tile entity is located
 	 * @param creative Whether or not creative-mode rules should be employed
 	 */
-	private static void removeTileEntity(ServerWorld worldserver0, BlockPos pos, boolean creative)
+	static void removeTileEntity(ServerWorld worldserver0, BlockPos pos, boolean creative)
 	{
 		TileEntity tileEntity = worldserver0.getTileEntity(pos);
 		if(tileEntity != null)
@@ -402,27 +576,6 @@ public class EntryProcess
 		return true;
 	}
 	
-	private static void copyBlockDirect(IWorld world, IChunk cSrc, IChunk cDst, int xSrc, int ySrc, int zSrc, int xDst, int yDst, int zDst)
-	{
-		BlockPos dest = new BlockPos(xDst, yDst, zDst);
-		ChunkSection blockStorageSrc = getBlockStorage(cSrc, ySrc >> 4);
-		ChunkSection blockStorageDst = getBlockStorage(cDst, yDst >> 4);
-		xSrc &= 15; ySrc &= 15; zSrc &= 15; xDst &= 15; yDst &= 15; zDst &= 15;
-		
-		boolean isEmpty = blockStorageDst.isEmpty();
-		blockStorageDst.setBlockState(xDst, yDst, zDst, blockStorageSrc.getBlockState(xSrc, ySrc, zSrc));
-		if(isEmpty != blockStorageDst.isEmpty())
-			world.getChunkProvider().getLightManager().func_215567_a(dest, blockStorageDst.isEmpty());	//I assume this adds or removes a light storage section here depending on if it is needed (because a section with just air doesn't have to be regarded)
-	}
-	
-	private static ChunkSection getBlockStorage(IChunk c, int y)
-	{
-		ChunkSection section = c.getSections()[y];
-		if(section == Chunk.EMPTY_SECTION)
-			section = c.getSections()[y] = new ChunkSection(y << 4);
-		return section;
-	}
-	
 	/**
 	 * Gives the Y-value of the highest non-air block within artifact range of the coordinates provided in the given world.
 	 */
@@ -460,62 +613,4 @@ public class EntryProcess
 			}
 			else world.setBlockState(pos.add((i % 3) - 1, 0, i/3 - 1), MSBlocks.GATE.getDefaultState(), 0);
 	}
-	
-	private static class BlockMove
-	{
-		private final Chunk chunkFrom;
-		private final BlockPos source;
-		private final BlockPos dest;
-		private final BlockState block;
-		private final boolean update;
-		
-		BlockMove(Chunk c, BlockPos src, BlockPos dst, BlockState b, boolean u)
-		{
-			chunkFrom = c;
-			source = src;
-			dest = dst;
-			block = b;
-			update = u;
-		}
-		
-		void copy(ServerWorld world, IChunk chunkTo)
-		{
-			if(chunkTo.getBlockState(dest).getBlock() == Blocks.BEDROCK)
-			{
-				return;
-			}
-			
-			if(update)
-			{
-				chunkTo.setBlockState(dest, block, true);
-			} else if(block == Blocks.AIR.getDefaultState())
-			{
-				world.setBlockState(dest, block, 0);
-			} else
-			{
-				copyBlockDirect(world, chunkFrom, chunkTo, source.getX(), source.getY(), source.getZ(), dest.getX(), dest.getY(), dest.getZ());
-			}
-			
-			TileEntity tileEntity = chunkFrom.getTileEntity(source, Chunk.CreateEntityType.CHECK);
-			TileEntity newTE = null;
-			if(tileEntity != null)
-			{
-				CompoundNBT nbt = new CompoundNBT();
-				tileEntity.write(nbt);
-				nbt.putInt("x", dest.getX());
-				nbt.putInt("y", dest.getY());
-				nbt.putInt("z", dest.getZ());
-				newTE = TileEntity.create(nbt);
-				if(newTE != null)
-					chunkTo.addTileEntity(dest, newTE);
-				else LOGGER.warn("Unable to create a new tile entity {} when teleporting blocks to the medium!", tileEntity.getType().getRegistryName());
-				
-			}
-			
-			for(EntryBlockProcessing processing : blockProcessors)
-			{
-				processing.copyOver((ServerWorld) chunkFrom.getWorld(), source, world, dest, block, tileEntity, newTE);
-			}
-		}
-	}
-}
\ No newline at end of file
+}
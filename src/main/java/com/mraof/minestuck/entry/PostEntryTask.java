@@ -10,6 +10,7 @@ import net.minecraft.world.chunk.IChunk;
 import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.world.gen.Heightmap;
 import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.util.Constants;
 
 import static com.mraof.minestuck.MinestuckConfig.artifactRange;
 
@@ -17,6 +18,7 @@ import static com.mraof.minestuck.MinestuckConfig.artifactRange;
  * Represents a task for updating blocks copied over into the entry.
  * To reduce time, and still reduce lightning and "floating" liquids,
  * this was created to handle such tasks during the ticks right after entry instead of during entry.
+ * Progress is kept as a cursor over the columns of the entry, so that each tick continues where the previous one stopped.
  */
 public class PostEntryTask
 {
@@ -26,11 +28,18 @@ public class PostEntryTask
 	 */
 	private static final long MIN_TIME = 20;
 	
+	private static final Heightmap.Type[] HEIGHTMAPS = {Heightmap.Type.MOTION_BLOCKING, Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, Heightmap.Type.OCEAN_FLOOR, Heightmap.Type.WORLD_SURFACE};
+	
 	private final DimensionType dimension;
 	private final int x, y, z;
 	private final int entrySize;
 	private final byte entryType;	//Used if we add more ways for entry to happen
-	private int index;
+	private int index;	//The number of blocks updated so far
+	private int cursorX, cursorZ, cursorY;	//The next block to update
+	private boolean done;
+	
+	private int lastTickUpdates;
+	private long lastTickTime;
 	
 	public PostEntryTask(DimensionType dimension, int xCoord, int yCoord, int zCoord, int entrySize, byte entryType)
 	{
@@ -41,12 +50,21 @@ public class PostEntryTask
 		this.entrySize = entrySize;
 		this.entryType = entryType;
 		this.index = 0;
+		this.cursorX = x - entrySize;
+		this.cursorZ = z - zWidth(cursorX);
+		this.cursorY = columnBottom(cursorX, cursorZ);
 	}
 	
 	public PostEntryTask(CompoundNBT nbt)
 	{
 		this(MSNBTUtil.tryReadDimensionType(nbt, "dimension"), nbt.getInt("x"), nbt.getInt("y"), nbt.getInt("z"), nbt.getInt("entrySize"), nbt.getByte("entryType"));
-		this.index = nbt.getInt("index");
+		if(nbt.contains("cursorX", Constants.NBT.TAG_INT))
+		{
+			this.index = nbt.getInt("index");
+			this.cursorX = nbt.getInt("cursorX");
+			this.cursorZ = nbt.getInt("cursorZ");
+			this.cursorY = nbt.getInt("cursorY");
+		} else skipBlocks(nbt.getInt("index"));	//Saved before the cursor was added
 		if(dimension == null)
 			Debug.warnf("Unable to load dimension type by name %s!", nbt.getString("dimension"));
 	}
@@ -61,6 +79,9 @@ public class PostEntryTask
 		nbt.putInt("entrySize", entrySize);
 		nbt.putByte("entryType", entryType);
 		nbt.putInt("index", index);
+		nbt.putInt("cursorX", cursorX);
+		nbt.putInt("cursorZ", cursorZ);
+		nbt.putInt("cursorY", cursorY);
 		
 		return nbt;
 	}
@@ -79,70 +100,184 @@ public class PostEntryTask
 			return true;
 		}
 		
+		long startTime = System.nanoTime();
 		int preIndex = index;
-		main:
+		if(entryType == 0)
 		{
-			if(entryType == 0)
+			long time = System.currentTimeMillis() + MIN_TIME;
+			while(!isFinished())
 			{
-				long time = System.currentTimeMillis() + MIN_TIME;
-				int i = 0;
-				for(int blockX = x - entrySize; blockX <= x + entrySize; blockX++)
-				{
-					int zWidth = (int) Math.sqrt(entrySize * entrySize - (blockX - x) * (blockX - x));
-					for(int blockZ = z - zWidth; blockZ <= z + zWidth; blockZ++)
-					{
-						int height = (int) Math.sqrt(artifactRange.get() * artifactRange.get() - (((blockX - x) * (blockX - x) + (blockZ - z) * (blockZ - z)) / 2));
-						if(blockX == x - entrySize || blockX == x + entrySize || blockZ == z - zWidth || blockZ == z + zWidth)
-							for(int blockY = y - height; blockY <= Math.min(128, y + height); blockY++)
-								i = updateBlock(new BlockPos(blockX, blockY, blockZ), world, i, true);
-						else
-						{
-							i = updateBlock(new BlockPos(blockX, y - height, blockZ), world, i, true);
-							for(int blockY = y - height + 1; blockY < Math.min(128, y + height); blockY++)
-								i = updateBlock(new BlockPos(blockX, blockY, blockZ), world, i, false);
-							i = updateBlock(new BlockPos(blockX, Math.min(128, y + height), blockZ), world, i, true);
-						}
-						if(time <= System.currentTimeMillis())
-							break main;
-					}
-				}
+				updateSlice(world);
+				if(time <= System.currentTimeMillis())
+					break;
 			}
-			
+		}
+		lastTickUpdates = index - preIndex;
+		lastTickTime = System.nanoTime() - startTime;
+		
+		if(entryType != 0 || isFinished())
+		{
 			Debug.infof("Completed entry block updates for dimension %s.", dimension.getRegistryName());
 			setDone();
 			return true;
 		}
 		
-		Debug.debugf("Updated %d blocks this tick.", index - preIndex);
+		Debug.debugf("Updated %d blocks this tick in %d ms, %.1f%% done.", lastTickUpdates, lastTickTime / 1000000, getProgress() * 100);
 		return index != preIndex;
 	}
 	
 	public boolean isDone()
 	{
-		return index == -1;
+		return done;
 	}
 	
 	private void setDone()
 	{
-		index = -1;
+		done = true;
+	}
+	
+	/**
+	 * @return the total number of blocks that have been updated by this task
+	 */
+	public int getUpdatedBlocks()
+	{
+		return index;
+	}
+	
+	/**
+	 * @return the number of blocks that were updated during the last tick that this task did work
+	 */
+	public int getLastTickUpdates()
+	{
+		return lastTickUpdates;
+	}
+	
+	/**
+	 * @return the time in nanoseconds that was spent during the last tick that this task did work
+	 */
+	public long getLastTickTime()
+	{
+		return lastTickTime;
+	}
+	
+	/**
+	 * @return the fraction of columns that have been completely updated, from 0 to 1
+	 */
+	public float getProgress()
+	{
+		if(isDone() || isFinished())
+			return 1;
+		int total = 0, completed = 0;
+		for(int blockX = x - entrySize; blockX <= x + entrySize; blockX++)
+		{
+			int columns = 2 * zWidth(blockX) + 1;
+			total += columns;
+			if(blockX < cursorX)
+				completed += columns;
+			else if(blockX == cursorX)
+				completed += cursorZ - (z - zWidth(blockX));
+		}
+		return (float) completed / total;
+	}
+	
+	private boolean isFinished()
+	{
+		return cursorX > x + entrySize;
+	}
+	
+	/**
+	 * Updates the blocks of the column at the cursor, up to a chunk section's height at a time, and then moves the cursor forward.
+	 * Heightmaps are updated once for the whole slice, going downwards so that the heightmaps can skip anything below a found surface.
+	 */
+	private void updateSlice(ServerWorld world)
+	{
+		int zWidth = zWidth(cursorX);
+		int bottom = columnBottom(cursorX, cursorZ), top = columnTop(cursorX, cursorZ);
+		boolean isEdge = cursorX == x - entrySize || cursorX == x + entrySize || cursorZ == z - zWidth || cursorZ == z + zWidth;
+		int sliceTop = Math.min(top, cursorY + 15);
+		
+		if(cursorY <= sliceTop)
+		{
+			IChunk chunk = world.getChunk(cursorX >> 4, cursorZ >> 4);
+			BlockState[] states = new BlockState[sliceTop - cursorY + 1];
+			for(int blockY = cursorY; blockY <= sliceTop; blockY++)
+			{
+				BlockPos pos = new BlockPos(cursorX, blockY, cursorZ);
+				if(isEdge || blockY == bottom || blockY == top)
+					world.notifyNeighborsOfStateChange(pos, world.getBlockState(pos).getBlock());
+				world.getChunkProvider().getLightManager().checkBlock(pos);
+				states[blockY - cursorY] = chunk.getBlockState(pos);
+			}
+			
+			int localX = cursorX & 15, localZ = cursorZ & 15;
+			for(Heightmap.Type type : HEIGHTMAPS)
+			{
+				Heightmap heightmap = chunk.getHeightmap(type);
+				for(int blockY = sliceTop; blockY >= cursorY; blockY--)
+				{
+					if(blockY <= heightmap.getHeight(localX, localZ) - 2)
+						break;	//The heightmap would ignore this and all blocks below anyway
+					heightmap.update(localX, blockY, localZ, states[blockY - cursorY]);
+				}
+			}
+			
+			index += states.length;
+		}
+		
+		if(sliceTop < top)
+			cursorY = sliceTop + 1;
+		else nextColumn();
+	}
+	
+	private void nextColumn()
+	{
+		cursorZ++;
+		if(cursorZ > z + zWidth(cursorX))
+		{
+			cursorX++;
+			if(isFinished())
+				return;
+			cursorZ = z - zWidth(cursorX);
+		}
+		cursorY = columnBottom(cursorX, cursorZ);
 	}
 	
-	private int updateBlock(BlockPos pos, ServerWorld world, int i, boolean blockUpdate)
+	/**
+	 * Moves the cursor forward without updating any blocks. Used to convert the block count of older saves to a cursor.
+	 */
+	private void skipBlocks(int count)
 	{
-		if(i >= index)
+		index = count;
+		while(count > 0 && !isFinished())
 		{
-			if(blockUpdate)
-				world.notifyNeighborsOfStateChange(pos, world.getBlockState(pos).getBlock());
-			world.getChunkProvider().getLightManager().checkBlock(pos);
-			IChunk chunk = world.getChunk(pos);
-			BlockState state = chunk.getBlockState(pos);
-			int x = pos.getX() & 15, y = pos.getY(), z = pos.getZ() & 15;
-			chunk.getHeightmap(Heightmap.Type.MOTION_BLOCKING).update(x, y, z, state);
-			chunk.getHeightmap(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES).update(x, y, z, state);
-			chunk.getHeightmap(Heightmap.Type.OCEAN_FLOOR).update(x, y, z, state);
-			chunk.getHeightmap(Heightmap.Type.WORLD_SURFACE).update(x, y, z, state);
-			index++;
+			int remaining = columnTop(cursorX, cursorZ) - cursorY + 1;
+			if(remaining > count)
+			{
+				cursorY += count;
+				return;
+			}
+			count -= Math.max(0, remaining);
+			nextColumn();
 		}
-		return i + 1;
 	}
-}
\ No newline at end of file
+	
+	private int zWidth(int blockX)
+	{
+		return (int) Math.sqrt(entrySize * entrySize - (blockX - x) * (blockX - x));
+	}
+	
+	private int columnHeight(int blockX, int blockZ)
+	{
+		return (int) Math.sqrt(artifactRange.get() * artifactRange.get() - (((blockX - x) * (blockX - x) + (blockZ - z) * (blockZ - z)) / 2));
+	}
+	
+	private int columnBottom(int blockX, int blockZ)
+	{
+		return y - columnHeight(blockX, blockZ);
+	}
+	
+	private int columnTop(int blockX, int blockZ)
+	{
+		return Math.min(128, y + columnHeight(blockX, blockZ));
+	}
+}
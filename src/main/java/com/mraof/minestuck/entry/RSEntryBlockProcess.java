@@ -42,6 +42,12 @@ public class RSEntryBlockProcess implements EntryBlockProcessing
 		}
 	}
 	
+	@Override
+	public boolean processesAllBlocks()
+	{
+		return false;
+	}
+	
 	private static INetworkNode createNewNode(INetworkNode oldNode, ServerWorld newWorld, BlockPos newPos)
 	{
 		CompoundNBT nbt = oldNode.write(new CompoundNBT());
@@ -3,8 +3,11 @@ package com.mraof.minestuck.event;
 import com.mraof.minestuck.Minestuck;
 import com.mraof.minestuck.MinestuckConfig;
 import com.mraof.minestuck.block.MSBlocks;
+import com.mraof.minestuck.entity.ai.TargetIndex;
 import com.mraof.minestuck.entity.consort.ConsortDialogue;
+import com.mraof.minestuck.entity.item.GristTickData;
 import com.mraof.minestuck.entity.underling.UnderlingEntity;
+import com.mraof.minestuck.entry.EntryProcess;
 import com.mraof.minestuck.inventory.captchalogue.HashMapModus;
 import com.mraof.minestuck.inventory.captchalogue.Modus;
 import com.mraof.minestuck.item.MSItems;
@@ -13,6 +16,10 @@ import com.mraof.minestuck.player.Echeladder;
 import com.mraof.minestuck.player.IdentifierHandler;
 import com.mraof.minestuck.skaianet.SburbHandler;
 import com.mraof.minestuck.skaianet.SkaianetHandler;
+import com.mraof.minestuck.tileentity.CollisionTeleporterHandler;
+import com.mraof.minestuck.tileentity.ComputerTileEntity;
+import com.mraof.minestuck.tileentity.MiniAlchemiterTileEntity;
+import com.mraof.minestuck.tileentity.TransportalizerDestinations;
 import com.mraof.minestuck.world.gen.feature.MSFeatures;
 import com.mraof.minestuck.world.storage.MSExtraData;
 import com.mraof.minestuck.world.storage.PlayerData;
@@ -20,6 +27,7 @@ import com.mraof.minestuck.world.storage.PlayerSavedData;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.entity.monster.*;
+import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
@@ -28,21 +36,27 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvents;
 import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.event.ServerChatEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.item.ItemExpireEvent;
+import net.minecraftforge.event.entity.living.LivingAttackEvent;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
 import net.minecraftforge.event.entity.living.LivingHurtEvent;
 import net.minecraftforge.event.entity.player.AttackEntityEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.UseHoeEvent;
 import net.minecraftforge.event.furnace.FurnaceFuelBurnTimeEvent;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.server.FMLServerStartingEvent;
 import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
+import net.minecraftforge.fml.event.server.FMLServerStoppingEvent;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
 @Mod.EventBusSubscriber(modid = Minestuck.MOD_ID, bus=Mod.EventBusSubscriber.Bus.FORGE)
 public class ServerEventHandler
@@ -53,18 +67,49 @@ public class ServerEventHandler
 	public static void serverStarting(FMLServerStartingEvent event)
 	{
 		ConsortDialogue.serverStarting();
+		PlayerSavedData.get(event.getServer());	//Loads the index for new fake players before any can be created
 		//if(!event.getServer().isDedicatedServer() && Minestuck.class.getAnnotation(Mod.class).version().startsWith("@")) TODO Find an alternative to detect dev environment
 		//event.getServer().setOnlineMode(false);	//Makes it possible to use LAN in a development environment
 		
 		lastDay = event.getServer().getWorld(DimensionType.OVERWORLD).getGameTime() / 24000L;
 	}
 	
+	@SubscribeEvent
+	public static void serverStopping(FMLServerStoppingEvent event)
+	{
+		EntryProcess.cancelEntries();
+	}
+	
 	@SubscribeEvent
 	public static void serverStopped(FMLServerStoppedEvent event)
 	{
+		PlayerSavedData.waitForSaves();
 		IdentifierHandler.clear();
 		SkaianetHandler.clear();
+		ComputerTileEntity.clearLoaded();
+		MiniAlchemiterTileEntity.clearLoaded();
 		MSFeatures.LAND_GATE.clearCache();
+		CollisionTeleporterHandler.clear();
+		TransportalizerDestinations.clear();
+	}
+	
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event)
+	{
+		GristTickData.clear(event.getWorld());
+		TargetIndex.clear(event.getWorld());
+		ComputerTileEntity.clearLoaded(event.getWorld());
+		MiniAlchemiterTileEntity.clearLoaded(event.getWorld());
+	}
+	
+	@SubscribeEvent
+	public static void onServerTick(TickEvent.ServerTickEvent event)
+	{
+		if(event.phase == TickEvent.Phase.END)
+		{
+			CollisionTeleporterHandler.onServerTickEnd();
+			TransportalizerDestinations.tick(ServerLifecycleHooks.getCurrentServer());
+		}
 	}
 	
 	@SubscribeEvent
@@ -72,6 +117,8 @@ public class ServerEventHandler
 	{
 		if(event.phase == TickEvent.Phase.END)
 		{
+			GristTickData.clear(event.world);
+			TargetIndex.clear(event.world);
 			
 			if(!MinestuckConfig.hardMode && event.world.getDimension().getType() == DimensionType.OVERWORLD)
 			{
@@ -86,6 +133,18 @@ public class ServerEventHandler
 			MinecraftServer server = event.world.getServer();
 			if(server != null)
 				MSExtraData.get(server).executeEntryTasks(server);
+			
+			if(event.world instanceof ServerWorld)
+				CollisionTeleporterHandler.handleCollisions((ServerWorld) event.world);
+			
+			if(server != null && event.world.getDimension().getType() == DimensionType.OVERWORLD)
+			{
+				EntryProcess.tickEntries();
+				SkaianetHandler.get(server).checkLoadedComputers();
+				PlayerSavedData.get(server).sendGristCacheChanges();
+				PlayerSavedData.get(server).markFailedDirty();
+				PlayerSavedData.get(server).unloadReleasedData();
+			}
 		}
 	}
 	
@@ -111,16 +170,16 @@ public class ServerEventHandler
 		if(event.getEntity() instanceof ServerPlayerEntity)
 			SburbHandler.stopEntry((ServerPlayerEntity) event.getEntity());
 	}
-
+	
 	//Gets reset after AttackEntityEvent but before LivingHurtEvent, but is used in determining if it's a critical hit
 	private static float cachedCooledAttackStrength = 0;
-
+	
 	@SubscribeEvent
 	public static void onPlayerAttack(AttackEntityEvent event)
 	{
 		cachedCooledAttackStrength = event.getPlayer().getCooledAttackStrength(0.5F);
 	}
-
+	
 	@SubscribeEvent(priority=EventPriority.NORMAL)
 	public static void onEntityAttack(LivingHurtEvent event)
 	{
@@ -154,6 +213,27 @@ public class ServerEventHandler
 		}
 	}
 	
+	@SubscribeEvent(priority = EventPriority.HIGH)
+	public static void onLivingAttack(LivingAttackEvent event)
+	{
+		if(event.getEntityLiving() instanceof PlayerEntity && EntryProcess.isInTransit((PlayerEntity) event.getEntityLiving()))
+			event.setCanceled(true);	//Players are held in place during entry, and shouldn't be hurt while they can't react
+	}
+	
+	@SubscribeEvent(priority = EventPriority.HIGH)
+	public static void onBlockBreak(BlockEvent.BreakEvent event)
+	{
+		if(EntryProcess.isInTransit(event.getPlayer()))
+			event.setCanceled(true);	//Blocks in range of the entry may already have been copied
+	}
+	
+	@SubscribeEvent(priority = EventPriority.HIGH)
+	public static void onBlockPlace(BlockEvent.EntityPlaceEvent event)
+	{
+		if(event.getEntity() instanceof PlayerEntity && EntryProcess.isInTransit((PlayerEntity) event.getEntity()))
+			event.setCanceled(true);	//Same as above, a block placed now might be moved without its tile entity
+	}
+	
 	@SubscribeEvent(priority = EventPriority.LOWEST, receiveCanceled = false)
 	public static void onEntityDamage(LivingHurtEvent event)
 	{
@@ -168,7 +248,9 @@ public class ServerEventHandler
 	{
 		SburbHandler.stopEntry((ServerPlayerEntity) event.getPlayer());
 		
-		PlayerSavedData.getData((ServerPlayerEntity) event.getPlayer()).getEcheladder().resendAttributes(event.getPlayer());
+		PlayerData data = PlayerSavedData.getData((ServerPlayerEntity) event.getPlayer());
+		data.getEcheladder().resendAttributes(event.getPlayer());
+		data.sendGristCache((ServerPlayerEntity) event.getPlayer());
 	}
 	
 	@SubscribeEvent(priority=EventPriority.LOW, receiveCanceled=false)
@@ -6,8 +6,6 @@ import com.mraof.minestuck.advancements.MSCriteriaTriggers;
 import com.mraof.minestuck.item.BoondollarsItem;
 import com.mraof.minestuck.item.MSItems;
 import com.mraof.minestuck.item.crafting.alchemy.AlchemyHelper;
-import com.mraof.minestuck.network.MSPacketHandler;
-import com.mraof.minestuck.network.ModusDataPacket;
 import com.mraof.minestuck.util.Debug;
 import com.mraof.minestuck.world.storage.ClientPlayerData;
 import com.mraof.minestuck.world.storage.PlayerData;
@@ -147,8 +145,7 @@ public class CaptchaDeckHandler
 		
 		if(modus != null)
 		{
-			ModusDataPacket packet = ModusDataPacket.create(writeToNBT(modus));
-			MSPacketHandler.sendToPlayer(packet, player);
+			PlayerSavedData.getData(player).sendModus(player, modus);
 		}
 	}
 	
@@ -198,8 +195,7 @@ public class CaptchaDeckHandler
 					player.setHeldItem(Hand.MAIN_HAND, ItemStack.EMPTY);
 				else stack.shrink(1);
 			}
-			ModusDataPacket packet = ModusDataPacket.create(writeToNBT(modus));
-			MSPacketHandler.sendToPlayer(packet, player);
+			PlayerSavedData.getData(player).sendModus(player, modus);
 		}
 		
 	}
@@ -255,8 +251,7 @@ public class CaptchaDeckHandler
 						player.inventory.setInventorySlotContents(hotbarIndex, ItemStack.EMPTY);
 					} else stack.shrink(1);
 				}
-				ModusDataPacket packet = ModusDataPacket.create(writeToNBT(modus));
-				MSPacketHandler.sendToPlayer(packet, player);
+				PlayerSavedData.getData(player).sendModus(player, modus);
 			}
 		}
 		else {
@@ -304,8 +299,7 @@ public class CaptchaDeckHandler
 						slot.putStack(ItemStack.EMPTY);
 					} else stack.shrink(1);
 				}
-				ModusDataPacket packet = ModusDataPacket.create(writeToNBT(modus));
-				MSPacketHandler.sendToPlayer(packet, player);
+				PlayerSavedData.getData(player).sendModus(player, modus);
 			}
 		}
 	}
@@ -348,8 +342,7 @@ public class CaptchaDeckHandler
 					launchAnyItem(player, stack);
 			}
 		}
-		ModusDataPacket packet = ModusDataPacket.create(writeToNBT(modus));
-		MSPacketHandler.sendToPlayer(packet, player);
+		PlayerSavedData.getData(player).sendModus(player, modus);
 	}
 	
 	private static void dropSylladex(ServerPlayerEntity player)
@@ -393,8 +386,7 @@ public class CaptchaDeckHandler
 			setModus(player, null);
 		} else modus.initModus(null, player, null, size);
 		
-		ModusDataPacket packet = ModusDataPacket.create(writeToNBT(modus));
-		MSPacketHandler.sendToPlayer(packet, player);
+		PlayerSavedData.getData(player).sendModus(player, modus);
 	}
 	
 	public static CompoundNBT writeToNBT(Modus modus)
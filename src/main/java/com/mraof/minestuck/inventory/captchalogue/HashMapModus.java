@@ -3,8 +3,6 @@ package com.mraof.minestuck.inventory.captchalogue;
 import com.mraof.minestuck.MinestuckConfig;
 import com.mraof.minestuck.item.MSItems;
 import com.mraof.minestuck.item.crafting.alchemy.AlchemyHelper;
-import com.mraof.minestuck.network.MSPacketHandler;
-import com.mraof.minestuck.network.ModusDataPacket;
 import com.mraof.minestuck.world.storage.PlayerSavedData;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -246,8 +244,7 @@ public class HashMapModus extends Modus
 		if(number.length() > 0)
 			handleNumber(player, number.toString());
 		
-		ModusDataPacket packet = ModusDataPacket.create(CaptchaDeckHandler.writeToNBT(this));
-		MSPacketHandler.sendToPlayer(packet, player);
+		PlayerSavedData.getData(player).sendModus(player, this);
 		
 	}
 	
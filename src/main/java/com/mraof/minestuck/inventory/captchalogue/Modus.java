@@ -90,7 +90,7 @@ public abstract class Modus
 	public void markDirty()
 	{
 		if(savedData != null)
-			savedData.markDirty();
+			savedData.markDirty(this);
 	}
 	
 	protected MinecraftServer getServer()
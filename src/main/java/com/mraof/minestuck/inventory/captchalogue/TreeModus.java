@@ -4,8 +4,6 @@ import com.mraof.minestuck.MinestuckConfig;
 import com.mraof.minestuck.advancements.MSCriteriaTriggers;
 import com.mraof.minestuck.item.MSItems;
 import com.mraof.minestuck.item.crafting.alchemy.AlchemyHelper;
-import com.mraof.minestuck.network.MSPacketHandler;
-import com.mraof.minestuck.network.ModusDataPacket;
 import com.mraof.minestuck.world.storage.PlayerSavedData;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -55,6 +53,7 @@ public class TreeModus extends Modus
 			TreeNode node = new TreeNode(stack);
 			node.node1 = readNode(nbt, currentIndex + (int) Math.pow(2, level), level + 1);
 			node.node2 = readNode(nbt, currentIndex + (int) Math.pow(2, level + 1), level + 1);
+			node.update();
 			
 			return node;
 		} else return null;
@@ -88,9 +87,8 @@ public class TreeModus extends Modus
 			return false;
 		if(node == null)
 			node = new TreeNode(item);
-		else node.addNode(new TreeNode(item));
+		else node = node.addNode(new TreeNode(item), isAutoBalanceActive());
 		markDirty();
-		autoBalance();
 		return true;
 	}
 	
@@ -108,7 +106,7 @@ public class TreeModus extends Modus
 	@Override
 	public int getNonEmptyCards()
 	{
-		return node.getSize();
+		return node == null ? 0 : node.getSize();
 	}
 	
 	@Override
@@ -163,7 +161,8 @@ public class TreeModus extends Modus
 		}
 		if(id == 0)
 			node = null;
-		autoBalance();
+		else if(isAutoBalanceActive() && !isBalancedAlong(id))
+			rebuild();
 		return stack;
 	}
 	
@@ -191,24 +190,34 @@ public class TreeModus extends Modus
 				TreeNode node = this.node;
 				autoBalance();
 				if(node != this.node)
-					MSPacketHandler.sendToPlayer(ModusDataPacket.create(CaptchaDeckHandler.writeToNBT(this)), player);
+					PlayerSavedData.getData(player).sendModus(player, this);
 			}
 		}
 	}
 	
+	protected boolean isAutoBalanceActive()
+	{
+		return MinestuckConfig.treeModusSetting.get() == MinestuckConfig.AvailableOptions.ON
+				|| autoBalance && MinestuckConfig.treeModusSetting.get() != MinestuckConfig.AvailableOptions.OFF;
+	}
+	
+	/**
+	 * Balances the whole tree if auto balance is active and the tree isn't already balanced.
+	 * While auto balance stays active, the tree is instead kept balanced as items are added and removed.
+	 * Balanced here means the AVL height condition, which is looser than the shallowest and deepest leaf being at most one level apart.
+	 * Trees balanced by older versions still satisfy it, but the shape auto balance produces from a sequence of insertions is not the same as before.
+	 */
 	protected void autoBalance()
 	{
-		if(!autoBalance && MinestuckConfig.treeModusSetting.get() != MinestuckConfig.AvailableOptions.ON || MinestuckConfig.treeModusSetting.get() == MinestuckConfig.AvailableOptions.OFF)
-			return;
-		
-		int minDepth = getDepth(node, true);
-		int maxDepth = getDepth(node, false);
-		
-		if(minDepth + 1 < maxDepth)
+		if(isAutoBalanceActive() && !isBalanced(node))
+			rebuild();
+	}
+	
+	private void rebuild()
+	{
+		if(node != null)
 		{
-			List<ItemStack> list = node.getItems();
-			
-			node = createNode(list);
+			node = createNode(node.getItems());
 			markDirty();
 		}
 	}
@@ -221,65 +230,144 @@ public class TreeModus extends Modus
 		TreeNode node = new TreeNode(list.get(i));
 		node.node1 = createNode(list.subList(0, i));
 		node.node2 = createNode(list.subList(i+1, list.size()));
+		node.update();
 		return node;
 	}
 	
-	protected int getDepth(TreeNode node, boolean min)
+	private static boolean isBalanced(TreeNode node)
 	{
-		if(node == null)
-			return 0;
-		if(min)
-			return Math.min(getDepth(node.node1, true), getDepth(node.node2, true)) + 1;
-		else return Math.max(getDepth(node.node1, false), getDepth(node.node2, false)) + 1;
+		return node == null || !node.isUnbalanced() && isBalanced(node.node1) && isBalanced(node.node2);
 	}
 	
+	/**
+	 * Checks the balance of the nodes on the path to a removed index.
+	 * Since nodes outside of that path are unchanged, this is enough to tell if a balanced tree still is balanced.
+	 */
+	private boolean isBalancedAlong(int index)
+	{
+		TreeNode node = this.node;
+		while(node != null)
+		{
+			if(node.isUnbalanced())
+				return false;
+			if(index == 0)
+				return true;
+			index -= 1;
+			node = index % 2 == 0 ? node.node1 : node.node2;
+			index /= 2;
+		}
+		return true;
+	}
+	
+	/**
+	 * A node in the tree, sorted by the registry name of the item (path before namespace, so that items aren't sorted mod-wise).
+	 * Each node keeps track of the size and height of its subtree.
+	 * When auto balance is active, nodes are kept balanced by rotation as they are added, like an AVL tree.
+	 */
 	public static class TreeNode
 	{
 		public final ItemStack stack;
 		public TreeNode node1;
 		public TreeNode node2;
+		private final String sortKey;
+		private int size = 1, height = 1;
 		
 		protected TreeNode(ItemStack stack)
 		{
 			this.stack = stack;
+			this.sortKey = itemToString(stack);
 		}
 		
 		public int getSize()
 		{
-			int size = 1;
-			if(node1 != null)
-				size += node1.getSize();
-			if(node2 != null)
-				size += node2.getSize();
 			return size;
 		}
 		
-		public void addNode(TreeNode node)
+		/**
+		 * Updates the cached size and height. Must be called whenever the children of this node have changed.
+		 */
+		void update()
+		{
+			size = 1 + size(node1) + size(node2);
+			height = 1 + Math.max(height(node1), height(node2));
+		}
+		
+		boolean isUnbalanced()
+		{
+			return Math.abs(height(node1) - height(node2)) > 1;
+		}
+		
+		/**
+		 * Adds the node to the subtree of this node.
+		 * @param balance if the subtree should be rebalanced by rotation
+		 * @return the root of the subtree afterwards, which is only different from this node if rebalanced
+		 */
+		public TreeNode addNode(TreeNode node, boolean balance)
 		{
 			if(this.stack.getItem() == node.stack.getItem() && ItemStack.areItemStackTagsEqual(this.stack, node.stack)
 				&& this.stack.getCount() + node.stack.getCount() <= this.stack.getMaxStackSize())
 			{
 				this.stack.grow(node.stack.getCount());
+				return this;
 			}
-			else
+			
+			int compare = this.sortKey.compareTo(node.sortKey);
+			if(compare >= 0)
+				node1 = node1 != null ? node1.addNode(node, balance) : node;
+			else node2 = node2 != null ? node2.addNode(node, balance) : node;
+			update();
+			
+			return balance ? rebalance() : this;
+		}
+		
+		private TreeNode rebalance()
+		{
+			int balance = height(node1) - height(node2);
+			if(balance > 1)
 			{
-				int compare = this.itemToString().compareTo(node.itemToString());
-				if(compare >= 0)
-				{
-					if(node1 != null)
-						node1.addNode(node);
-					else node1 = node;
-				}
-				else
-				{
-					if(node2 != null)
-						node2.addNode(node);
-					else node2 = node;
-				}
+				if(height(node1.node1) < height(node1.node2))
+					node1 = node1.rotateLeft();
+				return rotateRight();
+			} else if(balance < -1)
+			{
+				if(height(node2.node2) < height(node2.node1))
+					node2 = node2.rotateRight();
+				return rotateLeft();
 			}
+			return this;
 		}
 		
-		private String itemToString()
+		private TreeNode rotateRight()
+		{
+			TreeNode root = node1;
+			node1 = root.node2;
+			root.node2 = this;
+			update();
+			root.update();
+			return root;
+		}
+		
+		private TreeNode rotateLeft()
+		{
+			TreeNode root = node2;
+			node2 = root.node1;
+			root.node1 = this;
+			update();
+			root.update();
+			return root;
+		}
+		
+		private static int size(TreeNode node)
+		{
+			return node == null ? 0 : node.size;
+		}
+		
+		private static int height(TreeNode node)
+		{
+			return node == null ? 0 : node.height;
+		}
+		
+		private static String itemToString(ItemStack stack)
 		{
 			ResourceLocation name = stack.getItem().getRegistryName();
 			if(name == null)
@@ -291,12 +379,12 @@ public class TreeModus extends Modus
 		{
 			if(index == 0)
 			{
-				ArrayList<ItemStack> list = new ArrayList<>();
+				ArrayList<ItemStack> list = new ArrayList<>(size);
 				list.add(this.stack);
 				if(node1 != null)
-					list.addAll(node1.getItems());
+					node1.addItems(list);
 				if(node2 != null)
-					list.addAll(node2.getItems());
+					node2.addItems(list);
 				return list;
 			}
 			index -= 1;
@@ -307,6 +395,7 @@ public class TreeModus extends Modus
 					ArrayList<ItemStack> list = node1.removeItems(index/2);
 					if(index/2 == 0)
 						node1 = null;
+					update();
 					return list;
 				} else return new ArrayList<>();
 			}
@@ -317,20 +406,26 @@ public class TreeModus extends Modus
 					ArrayList<ItemStack> list = node2.removeItems(index/2);
 					if(index/2 == 0)
 						node2 = null;
+					update();
 					return list;
 				} else return new ArrayList<>();
 			}
 		}
 		
 		public NonNullList<ItemStack> getItems()
-		{	//TODO Maybe something more efficient than repeatedly creating and discarding lists?
+		{
 			NonNullList<ItemStack> list = NonNullList.create();
+			addItems(list);
+			return list;
+		}
+		
+		private void addItems(List<ItemStack> list)
+		{
 			if(node1 != null)
-				list.addAll(node1.getItems());
+				node1.addItems(list);
 			list.add(stack);
 			if(node2 != null)
-				list.addAll(node2.getItems());
-			return list;
+				node2.addItems(list);
 		}
 		
 	}
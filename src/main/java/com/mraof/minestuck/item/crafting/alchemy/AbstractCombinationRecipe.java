@@ -2,10 +2,14 @@ package com.mraof.minestuck.item.crafting.alchemy;
 
 import com.mraof.minestuck.item.crafting.MSRecipeTypes;
 import com.mraof.minestuck.jei.JeiCombination;
+import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.IRecipeType;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.World;
 
+import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -18,6 +22,11 @@ public abstract class AbstractCombinationRecipe implements IRecipe<ItemCombiner>
 		this.id = id;
 	}
 	
+	public static ItemStack findResult(ItemCombiner combiner, World world)
+	{
+		return CombinationRecipeIndex.get(world.getRecipeManager()).findRecipe(combiner, world).map(IRecipe::getRecipeOutput).orElse(ItemStack.EMPTY);
+	}
+	
 	@Override
 	public boolean canFit(int width, int height)
 	{
@@ -36,6 +45,16 @@ public abstract class AbstractCombinationRecipe implements IRecipe<ItemCombiner>
 		return MSRecipeTypes.COMBINATION_TYPE;
 	}
 	
+	/**
+	 * Used by {@link CombinationRecipeIndex} to only test this recipe against relevant item combinations.
+	 * @return every ordered pair of decoded items and mode that this recipe may match, or null if any combination could match.
+	 */
+	@Nullable
+	public Collection<CombinationRecipeIndex.Key> getIndexKeys()
+	{
+		return null;
+	}
+	
 	public List<JeiCombination> getJeiCombinations()
 	{
 		return Collections.emptyList();
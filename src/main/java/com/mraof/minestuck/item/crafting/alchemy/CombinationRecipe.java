@@ -14,8 +14,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.registries.ForgeRegistryEntry;
 
 import javax.annotation.Nullable;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 public class CombinationRecipe extends AbstractCombinationRecipe
 {
@@ -51,6 +50,31 @@ public class CombinationRecipe extends AbstractCombinationRecipe
 		return output.copy();
 	}
 	
+	@Nullable
+	@Override
+	public Collection<CombinationRecipeIndex.Key> getIndexKeys()
+	{
+		if(!isIndexable(input1) || !isIndexable(input2))
+			return null;
+		
+		Set<CombinationRecipeIndex.Key> keys = new HashSet<>();
+		for(ItemStack stack1 : input1.getMatchingStacks())
+		{
+			for(ItemStack stack2 : input2.getMatchingStacks())
+			{
+				keys.add(new CombinationRecipeIndex.Key(stack1.getItem(), stack2.getItem(), mode));
+				keys.add(new CombinationRecipeIndex.Key(stack2.getItem(), stack1.getItem(), mode));
+			}
+		}
+		return keys;
+	}
+	
+	private static boolean isIndexable(Ingredient ingredient)
+	{
+		//Ingredients that aren't simple may depend on nbt, and an ingredient without matching stacks may match an empty stack
+		return ingredient.isSimple() && ingredient.getMatchingStacks().length > 0;
+	}
+	
 	@Override
 	public List<JeiCombination> getJeiCombinations()
 	{
@@ -0,0 +1,159 @@
+package com.mraof.minestuck.item.crafting.alchemy;
+
+import com.mraof.minestuck.Minestuck;
+import com.mraof.minestuck.item.crafting.MSRecipeTypes;
+import net.minecraft.client.resources.ReloadListener;
+import net.minecraft.item.Item;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.profiler.IProfiler;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.World;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerAboutToStartEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+
+/**
+ * Maps pairs of (decoded) items and a combination mode to the combination recipes that may match them,
+ * so that finding a combination result doesn't have to test every combination recipe.
+ * Both orders of the item pair are indexed, since combination recipes are symmetric.
+ * Recipes that can't list their inputs ahead of time (see {@link AbstractCombinationRecipe#getIndexKeys()}) are tested for every combination.
+ * An index is built for each recipe manager after recipes have been loaded, or lazily on the first lookup.
+ */
+@Mod.EventBusSubscriber(modid = Minestuck.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class CombinationRecipeIndex
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+	
+	private static final RecipeIndexHolder<CombinationRecipeIndex> INDEXES = new RecipeIndexHolder<>(CombinationRecipeIndex::build);
+	
+	private final Map<Key, List<AbstractCombinationRecipe>> recipesByKey;
+	private final List<AbstractCombinationRecipe> unindexedRecipes;
+	
+	private CombinationRecipeIndex(Map<Key, List<AbstractCombinationRecipe>> recipesByKey, List<AbstractCombinationRecipe> unindexedRecipes)
+	{
+		this.recipesByKey = recipesByKey;
+		this.unindexedRecipes = unindexedRecipes;
+	}
+	
+	@SubscribeEvent
+	public static void serverAboutToStart(FMLServerAboutToStartEvent event)
+	{
+		MinecraftServer server = event.getServer();
+		server.getResourceManager().addReloadListener(new ReloadListener<Void>()
+		{
+			@Override
+			protected Void prepare(IResourceManager resourceManagerIn, IProfiler profilerIn)
+			{
+				return null;
+			}
+			
+			@Override
+			protected void apply(Void splashList, IResourceManager resourceManagerIn, IProfiler profilerIn)
+			{
+				rebuild(server.getRecipeManager());
+			}
+		});
+	}
+	
+	public static CombinationRecipeIndex get(RecipeManager recipeManager)
+	{
+		return INDEXES.get(recipeManager);
+	}
+	
+	public static void rebuild(RecipeManager recipeManager)
+	{
+		INDEXES.rebuild(recipeManager);
+	}
+	
+	public static void invalidate(RecipeManager recipeManager)
+	{
+		INDEXES.invalidate(recipeManager);
+	}
+	
+	private static CombinationRecipeIndex build(RecipeManager recipeManager)
+	{
+		long time = System.nanoTime();
+		
+		List<AbstractCombinationRecipe> recipes = new ArrayList<>();
+		for(IRecipe<?> recipe : recipeManager.getRecipes())
+		{
+			if(recipe.getType() == MSRecipeTypes.COMBINATION_TYPE)
+				recipes.add((AbstractCombinationRecipe) recipe);
+		}
+		//The recipe manager does not have a consistent order, so sort by id to keep results for overlapping recipes deterministic
+		recipes.sort(Comparator.comparing(AbstractCombinationRecipe::getId));
+		
+		Map<Key, List<AbstractCombinationRecipe>> recipesByKey = new HashMap<>();
+		List<AbstractCombinationRecipe> unindexedRecipes = new ArrayList<>();
+		for(AbstractCombinationRecipe recipe : recipes)
+		{
+			Collection<Key> keys = recipe.getIndexKeys();
+			if(keys == null)
+			{
+				unindexedRecipes.add(recipe);
+				for(List<AbstractCombinationRecipe> list : recipesByKey.values())
+					list.add(recipe);
+			} else
+			{
+				for(Key key : keys)
+				{
+					List<AbstractCombinationRecipe> list = recipesByKey.computeIfAbsent(key, key1 -> new ArrayList<>(unindexedRecipes));
+					if(list.isEmpty() || list.get(list.size() - 1) != recipe)
+						list.add(recipe);
+				}
+			}
+		}
+		
+		LOGGER.debug("Indexed {} combination recipes over {} item combinations ({} unindexed) in {} ms", recipes.size(), recipesByKey.size(), unindexedRecipes.size(), (System.nanoTime() - time) / 1000000);
+		return new CombinationRecipeIndex(recipesByKey, unindexedRecipes);
+	}
+	
+	public Optional<AbstractCombinationRecipe> findRecipe(ItemCombiner combiner, World world)
+	{
+		Item item1 = AlchemyHelper.getDecodedItem(combiner.getStackInSlot(0)).getItem();
+		Item item2 = AlchemyHelper.getDecodedItem(combiner.getStackInSlot(1)).getItem();
+		for(AbstractCombinationRecipe recipe : recipesByKey.getOrDefault(new Key(item1, item2, combiner.getMode()), unindexedRecipes))
+		{
+			if(recipe.matches(combiner, world))
+				return Optional.of(recipe);
+		}
+		return Optional.empty();
+	}
+	
+	/**
+	 * An ordered pair of items together with the combination mode.
+	 */
+	public static final class Key
+	{
+		private final Item item1, item2;
+		private final CombinationMode mode;
+		
+		public Key(Item item1, Item item2, CombinationMode mode)
+		{
+			this.item1 = Objects.requireNonNull(item1);
+			this.item2 = Objects.requireNonNull(item2);
+			this.mode = Objects.requireNonNull(mode);
+		}
+		
+		@Override
+		public boolean equals(Object o)
+		{
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+			Key key = (Key) o;
+			return item1 == key.item1 && item2 == key.item2 && mode == key.mode;
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(item1, item2, mode);
+		}
+	}
+}
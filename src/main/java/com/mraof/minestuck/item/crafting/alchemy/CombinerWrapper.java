@@ -37,9 +37,9 @@ public class CombinerWrapper implements ItemCombiner
 	public ItemStack getStackInSlot(int index)
 	{
 		if(index == 0)
-			return item1.copy();
+			return item1;
 		else if(index == 1)
-			return item2.copy();
+			return item2;
 		else throw new IndexOutOfBoundsException(String.valueOf(index));
 	}
 	
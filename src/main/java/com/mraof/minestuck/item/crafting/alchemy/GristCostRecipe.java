@@ -7,7 +7,6 @@ import com.mraof.minestuck.item.crafting.alchemy.generator.GenerationContext;
 import com.mraof.minestuck.item.crafting.alchemy.generator.GristCostResult;
 import com.mraof.minestuck.jei.JeiGristCost;
 import net.minecraft.inventory.IInventory;
-import net.minecraft.inventory.Inventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.*;
@@ -19,10 +18,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.registries.ForgeRegistryEntry;
 
 import javax.annotation.Nullable;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.function.BiConsumer;
 
 public abstract class GristCostRecipe implements IRecipe<IInventory>
@@ -40,7 +36,7 @@ public abstract class GristCostRecipe implements IRecipe<IInventory>
 	
 	public static Optional<GristCostRecipe> findRecipeForItem(ItemStack input, World world, RecipeManager recipeManager)
 	{
-		return recipeManager.getRecipes(MSRecipeTypes.GRIST_COST_TYPE, new Inventory(input), world).stream().max(Comparator.comparingInt(GristCostRecipe::getPriority));
+		return GristCostRecipeIndex.get(recipeManager).findRecipe(input, world);
 	}
 	
 	public final ResourceLocation id;
@@ -104,6 +100,22 @@ public abstract class GristCostRecipe implements IRecipe<IInventory>
 		else return priority;
 	}
 	
+	/**
+	 * Used by {@link GristCostRecipeIndex} to only test this recipe against relevant items.
+	 * @return the items that this recipe may match, or null if any item could match.
+	 */
+	@Nullable
+	public Collection<Item> getMatchingItems()
+	{
+		if(ingredient == null || !ingredient.isSimple())
+			return null;
+		
+		List<Item> items = new ArrayList<>();
+		for(ItemStack stack : ingredient.getMatchingStacks())
+			items.add(stack.getItem());
+		return items;
+	}
+	
 	public abstract GristSet getGristCost(ItemStack input, GristType wildcardType, boolean shouldRoundDown, @Nullable World world);
 	
 	public boolean canPickWildcard()
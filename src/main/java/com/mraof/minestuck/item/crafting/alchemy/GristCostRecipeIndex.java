@@ -0,0 +1,105 @@
+package com.mraof.minestuck.item.crafting.alchemy;
+
+import com.mraof.minestuck.item.crafting.MSRecipeTypes;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+
+/**
+ * Maps items to the grist cost recipes that may match them, sorted by priority,
+ * so that a lookup only has to test the few recipes that are relevant for the item.
+ * Recipes that can't tell which items they match ahead of time (see {@link GristCostRecipe#getMatchingItems()})
+ * are tested for every item, ordered among the indexed recipes by priority.
+ * An index is built for each recipe manager, either when grist costs are generated after a reload, or lazily on the first lookup.
+ */
+public final class GristCostRecipeIndex
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+	
+	private static final RecipeIndexHolder<GristCostRecipeIndex> INDEXES = new RecipeIndexHolder<>(GristCostRecipeIndex::build);
+	
+	private final Map<Item, List<GristCostRecipe>> recipesByItem;
+	private final List<GristCostRecipe> unindexedRecipes;
+	
+	private GristCostRecipeIndex(Map<Item, List<GristCostRecipe>> recipesByItem, List<GristCostRecipe> unindexedRecipes)
+	{
+		this.recipesByItem = recipesByItem;
+		this.unindexedRecipes = unindexedRecipes;
+	}
+	
+	public static GristCostRecipeIndex get(RecipeManager recipeManager)
+	{
+		return INDEXES.get(recipeManager);
+	}
+	
+	/**
+	 * Builds a new index for the recipe manager, replacing any previous index. Should be called whenever grist cost recipes have been reloaded.
+	 */
+	public static void rebuild(RecipeManager recipeManager)
+	{
+		INDEXES.rebuild(recipeManager);
+	}
+	
+	public static void invalidate(RecipeManager recipeManager)
+	{
+		INDEXES.invalidate(recipeManager);
+	}
+	
+	private static GristCostRecipeIndex build(RecipeManager recipeManager)
+	{
+		long time = System.nanoTime();
+		
+		List<GristCostRecipe> recipes = new ArrayList<>();
+		for(IRecipe<?> recipe : recipeManager.getRecipes())
+		{
+			if(recipe.getType() == MSRecipeTypes.GRIST_COST_TYPE)
+				recipes.add((GristCostRecipe) recipe);
+		}
+		//Stable sort, so recipes with equal priority keep the order that a scan over the recipe manager would find them in
+		recipes.sort(Comparator.comparingInt(recipe -> -recipe.getPriority()));
+		
+		Map<Item, List<GristCostRecipe>> recipesByItem = new HashMap<>();
+		List<GristCostRecipe> unindexedRecipes = new ArrayList<>();
+		for(GristCostRecipe recipe : recipes)
+		{
+			Collection<Item> items = recipe.getMatchingItems();
+			if(items == null)
+			{
+				//Needs to be checked for all items, including those that already have a list
+				unindexedRecipes.add(recipe);
+				for(List<GristCostRecipe> list : recipesByItem.values())
+					list.add(recipe);
+			} else
+			{
+				for(Item item : items)
+				{
+					List<GristCostRecipe> list = recipesByItem.computeIfAbsent(item, item1 -> new ArrayList<>(unindexedRecipes));
+					if(list.isEmpty() || list.get(list.size() - 1) != recipe)	//Ingredients may list the same item several times
+						list.add(recipe);
+				}
+			}
+		}
+		
+		LOGGER.debug("Indexed {} grist cost recipes over {} items ({} unindexed) in {} ms", recipes.size(), recipesByItem.size(), unindexedRecipes.size(), (System.nanoTime() - time) / 1000000);
+		return new GristCostRecipeIndex(recipesByItem, unindexedRecipes);
+	}
+	
+	public Optional<GristCostRecipe> findRecipe(ItemStack input, World world)
+	{
+		IInventory inventory = new Inventory(input);
+		for(GristCostRecipe recipe : recipesByItem.getOrDefault(input.getItem(), unindexedRecipes))
+		{
+			if(recipe.matches(inventory, world))
+				return Optional.of(recipe);
+		}
+		return Optional.empty();
+	}
+}
@@ -9,7 +9,6 @@ import com.mraof.minestuck.skaianet.SburbConnection;
 import com.mraof.minestuck.skaianet.SkaianetHandler;
 import com.mraof.minestuck.player.IdentifierHandler;
 import com.mraof.minestuck.player.PlayerIdentifier;
-import com.mraof.minestuck.world.storage.PlayerData;
 import com.mraof.minestuck.world.storage.PlayerSavedData;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.server.MinecraftServer;
@@ -19,7 +18,6 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 import static com.mraof.minestuck.MinestuckConfig.showGristChanges;
 
@@ -110,20 +108,17 @@ public class GristHelper
 		{
 			return false;
 		}
-		Map<GristType, Long> reqs = cost.getMap();
-		if(reqs != null)
-		{
-			for(Entry<GristType, Long> pairs : reqs.entrySet())
-			{
-				GristType type = pairs.getKey();
-				long need = pairs.getValue();
-				long have = base.getGrist(type);
-				
-				if(need > have) return false;
-			}
-			return true;
-		}
-		return false;
+		return cost.isCoveredBy(base);
+	}
+	
+	/**
+	 * @return how many times the cost can be paid with the grist in the base set, but no more than the limit
+	 */
+	public static long getAffordableCount(GristSet base, GristSet cost, long limit)
+	{
+		if(base == null || cost == null)
+			return 0;
+		return cost.timesCoveredBy(base, limit);
 	}
 	
 	/**
@@ -139,23 +134,18 @@ public class GristHelper
 		Objects.requireNonNull(world);
 		Objects.requireNonNull(player);
 		Objects.requireNonNull(set);
-		PlayerData data = PlayerSavedData.getData(player, world);
-		NonNegativeGristSet newCache = new NonNegativeGristSet(data.getGristCache());
-		newCache.addGrist(set);
-		data.setGristCache(newCache);
+		PlayerSavedData.getData(player, world).addGrist(set);
 	}
 	
 	public static void notify(MinecraftServer server, PlayerIdentifier player, GristSet set)
 	{
 		if(showGristChanges.get())
 		{
-			Map<GristType, Long> reqs = set.getMap();
-			for(Entry<GristType, Long> pairs : reqs.entrySet())
+			set.forEach((gristType, difference) ->
 			{
-				ITextComponent type = pairs.getKey().getDisplayName();
-				long difference = pairs.getValue();
+				ITextComponent type = gristType.getDisplayName();
 				sendGristMessage(server, player, new TranslationTextComponent("You gained %s %s grist.", difference, type));
-			}
+			});
 		}
 	}
 	
@@ -171,11 +161,9 @@ public class GristHelper
 			if(ed == null)
 				return;
 			
-			Map<GristType, Long> reqs = set.getMap();
-			for(Entry<GristType, Long> pairs : reqs.entrySet())
+			set.forEach((gristType, difference) ->
 			{
-				ITextComponent type = pairs.getKey().getDisplayName();
-				long difference = pairs.getValue();
+				ITextComponent type = gristType.getDisplayName();
 				if(increase)
 				{
 					sendGristMessage(server, IdentifierHandler.encode(ed.getEditor()), new TranslationTextComponent("You have refunded %s of %s's %s grist.", difference, player.getUsername(), type));
@@ -183,7 +171,7 @@ public class GristHelper
 				{
 					sendGristMessage(server, IdentifierHandler.encode(ed.getEditor()), new TranslationTextComponent("You have spent %s of %s's %s grist.", difference, player.getUsername(), type));
 				}
-			}
+			});
 		}
 	}
 	
@@ -3,6 +3,7 @@ package com.mraof.minestuck.item.crafting.alchemy;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.mraof.minestuck.MinestuckConfig;
 import com.mraof.minestuck.entity.item.GristEntity;
 import com.mraof.minestuck.util.Debug;
 import com.mraof.minestuck.util.ExtraJSONUtils;
@@ -17,29 +18,41 @@ import net.minecraft.world.World;
 
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 public class GristSet
 {
 	public static final String MISSING_MESSAGE = "grist.missing";
 	public static final String GRIST_COMMA = "grist.comma";
 	
-	public static final GristSet EMPTY = new GristSet(Collections.emptyMap());
-
-	private final Map<GristType, Long> gristTypes;
+	private static final long[] NO_AMOUNTS = new long[0];
+	private static final boolean[] NO_TYPES = new boolean[0];
+	
+	public static final GristSet EMPTY = new ImmutableGristSet();
+	
+	/**
+	 * Grist amounts indexed by {@link GristType#getIndex()}. May be shorter than the number of grist types, in which case missing entries are zero.
+	 * Like a map, a grist type can be part of the set with an amount of zero, which is tracked by {@link #types}.
+	 * Iteration goes in order of registry id (see {@link GristType#indexOrder()}), the same order as the sorted map this used to be.
+	 */
+	private long[] amounts;
+	private boolean[] types;
+	private int typeCount;
 
 	/**
 	 * Creates a blank set of grist values, used in setting up the Grist Registry.
 	 */
 	public GristSet()
 	{
-		this(new TreeMap<>());
+		amounts = NO_AMOUNTS;
+		types = NO_TYPES;
 	}
 	
 	protected GristSet(Map<GristType, Long> map)
 	{
-		this.gristTypes = map;
+		this();
+		map.forEach(this::put);
 	}
 	
 	public GristSet(Supplier<GristType> type, long amount)
@@ -53,7 +66,7 @@ public class GristSet
 	public GristSet(GristType type, long amount)
 	{
 		this();
-		this.gristTypes.put(type, amount);
+		put(type, amount);
 	}
 	
 	public GristSet(Supplier<GristType>[] type, long[] amount)
@@ -62,7 +75,7 @@ public class GristSet
 		
 		for (int i = 0; i < type.length; i++)
 		{
-			this.gristTypes.put(type[i].get(), amount[i]);
+			put(type[i].get(), amount[i]);
 		}
 	}
 	
@@ -75,7 +88,7 @@ public class GristSet
 
 		for (int i = 0; i < type.length; i++)
 		{
-			this.gristTypes.put(type[i], amount[i]);
+			put(type[i], amount[i]);
 		}
 	}
 
@@ -84,14 +97,47 @@ public class GristSet
 		this();
 		for (GristAmount amount : grist)
 		{
-			this.gristTypes.put(amount.getType(), amount.getAmount());
+			put(amount.getType(), amount.getAmount());
 		}
 	}
 	
 	public GristSet(GristSet set)
 	{
-		this();
-		gristTypes.putAll(set.gristTypes);
+		amounts = set.amounts.clone();
+		types = set.types.clone();
+		typeCount = set.typeCount;
+	}
+	
+	/**
+	 * Puts the amount for the grist type into the set, which makes the type part of the set even if the amount is zero.
+	 */
+	private void put(GristType type, long amount)
+	{
+		int index = type.getIndex();
+		if(index >= amounts.length)
+		{
+			int length = Math.max(index + 1, GristType.indexLimit());
+			amounts = Arrays.copyOf(amounts, length);
+			types = Arrays.copyOf(types, length);
+		}
+		
+		if(!types[index])
+		{
+			types[index] = true;
+			typeCount++;
+		}
+		amounts[index] = amount;
+	}
+	
+	private void remove(GristType type)
+	{
+		int index = type.getIndex();
+		if(index < types.length && types[index])
+		{
+			types[index] = false;
+			typeCount--;
+			amounts[index] = 0;
+		}
 	}
 	
 	public ImmutableGristSet asImmutable()
@@ -104,7 +150,8 @@ public class GristSet
 	 */
 	public long getGrist(GristType type)
 	{
-		return this.gristTypes.getOrDefault(type, 0L);
+		int index = type.getIndex();
+		return index < amounts.length ? amounts[index] : 0;
 	}
 	
 	/**
@@ -113,26 +160,22 @@ public class GristSet
 	public double getValue()
 	{
 		double sum = 0;
-		for(GristAmount amount : getAmounts())
-			sum += amount.getValue();
+		for(int i = 0; i < amounts.length; i++)
+			if(amounts[i] != 0)
+				sum += GristType.byIndex(i).getValue()*amounts[i];
 		return sum;
 	}
 	
 	/**
-	 * Sets the amount of grist, given a type of grist and the new amount.
+	 * Sets the amount of grist, given a type of grist and the new amount. An amount of zero removes the type from the set.
 	 */
 	public GristSet setGrist(GristType type, long amount)
 	{
 		if(type != null)
 		{
-			if (amount == 0)
-			{
-				this.gristTypes.remove(type);
-			}
-			else
-			{
-				gristTypes.put(type, amount);
-			}
+			if(amount == 0)
+				remove(type);
+			else put(type, amount);
 		}
 		return this;
 	}
@@ -144,22 +187,28 @@ public class GristSet
 	{
 		if(type != null)
 		{
-			this.gristTypes.compute(type, (key, value) -> value == null ? amount : value + amount);
+			put(type, getGrist(type) + amount);
 		}
 		return this;
 	}
-
-	/**
-	 * Returns a Hashtable with grist->amount pairs.
-	 */
-	protected Map<GristType, Long> getMap()
+	
+	public boolean hasType(GristType type)
 	{
-		return this.gristTypes;
+		int index = type.getIndex();
+		return index < types.length && types[index];
 	}
 	
-	public boolean hasType(GristType type)
+	/**
+	 * Performs the given action for each grist type in the set along with its amount, in order of registry id.
+	 * Unlike {@link #getAmounts()}, this does not create any new objects.
+	 */
+	public void forEach(ObjLongConsumer<GristType> action)
 	{
-		return gristTypes.containsKey(type);
+		if(typeCount == 0)
+			return;
+		for(int i : GristType.indexOrder())
+			if(i < types.length && types[i])
+				action.accept(GristType.byIndex(i), amounts[i]);
 	}
 	
 	/**
@@ -167,7 +216,9 @@ public class GristSet
 	 */
 	public List<GristAmount> getAmounts()
 	{
-		return this.gristTypes.entrySet().stream().map((entry) -> new GristAmount(entry.getKey(), entry.getValue())).collect(Collectors.toList());
+		List<GristAmount> list = new ArrayList<>(typeCount);
+		forEach((type, amount) -> list.add(new GristAmount(type, amount)));
+		return list;
 	}
 
 	/**
@@ -175,10 +226,7 @@ public class GristSet
 	 */
 	public GristSet addGrist(GristSet set)
 	{
-		for (GristAmount grist : set.getAmounts())
-		{
-			this.addGrist(grist);
-		}
+		set.forEach(this::addGrist);
 		return this;
 
 	}
@@ -202,22 +250,54 @@ public class GristSet
 	 */
 	public GristSet scale(float scale, boolean roundDown)
 	{
-		this.gristTypes.forEach((type, amount) -> {
+		for(int i = 0; i < amounts.length; i++)
+		{
+			long amount = amounts[i];
 			if (amount > 0)
 			{
-				this.gristTypes.put(type, roundDown ? (long) (amount * scale) : Math.max(Math.round(amount * scale), 1));
+				put(GristType.byIndex(i), roundDown ? (long) (amount * scale) : Math.max(Math.round(amount * scale), 1));
 			}
-		});
+		}
 
 		return this;
 	}
+	
+	/**
+	 * Checks that the given set has at least as much as this set for each grist type in this set.
+	 */
+	boolean isCoveredBy(GristSet base)
+	{
+		for(int i = 0; i < amounts.length; i++)
+		{
+			long have = i < base.amounts.length ? base.amounts[i] : 0;
+			if(amounts[i] != 0 && amounts[i] > have)
+				return false;
+		}
+		return true;
+	}
 
+	/**
+	 * Counts how many times the given set has the amount of this set for each grist type in this set.
+	 * @param limit the highest count that should be returned
+	 */
+	long timesCoveredBy(GristSet base, long limit)
+	{
+		long times = limit;
+		for(int i = 0; i < amounts.length && times > 0; i++)
+		{
+			long have = i < base.amounts.length ? base.amounts[i] : 0;
+			if(amounts[i] > 0)
+				times = Math.min(times, have / amounts[i]);
+		}
+		return Math.max(times, 0);
+	}
+	
 	/**
 	 * Checks if this grist set is empty.
 	 */
 	public boolean isEmpty()
 	{
-		return this.gristTypes.isEmpty();
+		return typeCount == 0;
 	}
 
 	@Override
@@ -226,14 +306,11 @@ public class GristSet
 		StringBuilder build = new StringBuilder();
 		build.append("gristSet:[");
 
-		boolean first = true;
-		for (Map.Entry<GristType, Long> entry : gristTypes.entrySet())
-		{
-			if (!first)
+		forEach((type, amount) -> {
+			if (build.length() > "gristSet:[".length())
 				build.append(',');
-			build.append(entry.getKey().getRegistryName()).append("=").append(entry.getValue());
-			first = false;
-		}
+			build.append(type.getRegistryName()).append("=").append(amount);
+		});
 
 		build.append(']');
 		return build.toString();
@@ -261,39 +338,37 @@ public class GristSet
 	
 	public GristSet copy()
 	{
-		return new GristSet(new TreeMap<>(gristTypes));
+		return new GristSet(this);
 	}
 	
 	public void spawnGristEntities(World world, double x, double y, double z, Random rand, Consumer<GristEntity> postProcessor)
 	{
-		for(GristAmount amount : getAmounts())
+		int maxEntities = MinestuckConfig.singleGristEntityDrops.get() ? 1 : 10;
+		forEach((type, totalCount) ->
 		{
-			long countLeft = amount.getAmount();
-			for(int i = 0; i < 10 && countLeft > 0; i++)
+			long countLeft = totalCount;
+			for(int i = 0; i < maxEntities && countLeft > 0; i++)
 			{
-				long spawnedCount = countLeft <= amount.getAmount()/10 || i == 9 ? countLeft : Math.min(countLeft, (long) world.rand.nextDouble()*countLeft + 1);
-				GristAmount spawnedAmount = new GristAmount(amount.getType(), spawnedCount);
+				long spawnedCount = countLeft <= totalCount/10 || i == maxEntities - 1 ? countLeft : Math.min(countLeft, (long) world.rand.nextDouble()*countLeft + 1);
+				GristAmount spawnedAmount = new GristAmount(type, spawnedCount);
 				GristEntity entity = new GristEntity(world, x, y, z, spawnedAmount);
 				postProcessor.accept(entity);
 				world.addEntity(entity);
 				countLeft -= spawnedCount;
 			}
-		}
+		});
 	}
 	
 	public JsonElement serialize()
 	{
 		JsonObject json = new JsonObject();
-		for(Map.Entry<GristType, Long> entry : gristTypes.entrySet())
+		forEach((type, amount) ->
 		{
-			ResourceLocation id = entry.getKey().getRegistryName();
+			ResourceLocation id = type.getRegistryName();
 			if(id == null)
-			{
-				Debug.warnf("Found grist type without a registry name! (%s)", entry.getKey());
-				continue;
-			}
-			json.addProperty(id.toString(), entry.getValue());
-		}
+				Debug.warnf("Found grist type without a registry name! (%s)", type);
+			else json.addProperty(id.toString(), amount);
+		});
 		return json;
 	}
 	
@@ -315,9 +390,12 @@ public class GristSet
 	
 	public void write(PacketBuffer buffer)
 	{
-		List<GristAmount> amounts = getAmounts();
-		buffer.writeInt(amounts.size());
-		amounts.forEach(gristAmount -> gristAmount.write(buffer));
+		buffer.writeInt(typeCount);
+		forEach((type, amount) ->
+		{
+			buffer.writeRegistryId(type);
+			buffer.writeLong(amount);
+		});
 	}
 	
 	public static GristSet read(PacketBuffer buffer)
@@ -332,7 +410,7 @@ public class GristSet
 	
 	public ListNBT write(ListNBT list)
 	{
-		getAmounts().forEach(gristAmount -> list.add(gristAmount.write(new CompoundNBT(), null)));
+		forEach((type, amount) -> list.add(new GristAmount(type, amount).write(new CompoundNBT(), null)));
 		return list;
 	}
 	
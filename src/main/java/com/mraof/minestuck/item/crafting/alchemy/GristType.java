@@ -16,6 +16,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -28,15 +30,20 @@ public class GristType extends ForgeRegistryEntry<GristType> implements Comparab
 	
 	public static final String FORMAT = "grist.format";
 	
+	private static volatile GristType[] typesByIndex = new GristType[0];
+	private static volatile int[] indexOrder;
+	
 	private final float rarity;
 	private final float value;
 	private final ItemStack candyItem;
 	private final List<Supplier<GristType>> secondaryTypes;
 	private String translationKey;
 	private ResourceLocation icon;
+	private final int index;
 	
 	public GristType(Properties properties)
 	{
+		index = assignIndex(this);
 		rarity = properties.rarity;
 		value = properties.value;
 		candyItem = properties.candyItem;
@@ -120,6 +127,70 @@ public class GristType extends ForgeRegistryEntry<GristType> implements Comparab
 		return ((ForgeRegistry<GristType>) GristTypes.REGISTRY).getID(this);	//TODO Not ideal. Find a better solution
 	}
 	
+	/**
+	 * Unlike {@link #getId()}, this index is assigned when the grist type is created and never changes for the lifetime of the game,
+	 * which makes it suitable for array-based storage such as in {@link GristSet}. It should not be saved or sent over the network.
+	 */
+	public int getIndex()
+	{
+		return index;
+	}
+	
+	/**
+	 * @return the grist type with the given index, or null if no grist type has that index
+	 */
+	public static GristType byIndex(int index)
+	{
+		GristType[] types = typesByIndex;
+		return index >= 0 && index < types.length ? types[index] : null;
+	}
+	
+	/**
+	 * @return a number larger than the index of any grist type created so far
+	 */
+	static int indexLimit()
+	{
+		return typesByIndex.length;
+	}
+	
+	/**
+	 * @return the indices of all grist types, sorted by registry id, which is the order that grist sets go through their grist types in
+	 */
+	static int[] indexOrder()
+	{
+		int[] order = indexOrder;
+		if(order == null)
+		{
+			GristType[] types = typesByIndex;
+			order = new int[types.length];
+			for(int i = 0; i < order.length; i++)
+				order[i] = i;
+			if(GristTypes.REGISTRY == null)
+				return order;	//Registry ids aren't available yet, so don't cache anything
+			
+			order = Arrays.stream(order).boxed().sorted(Comparator.comparingInt(i -> types[i].getId())).mapToInt(Integer::intValue).toArray();
+			indexOrder = order;
+		}
+		return order;
+	}
+	
+	/**
+	 * Called when registry ids may have changed, such as when the registry is synced from a server.
+	 */
+	static void invalidateIndexOrder()
+	{
+		indexOrder = null;
+	}
+	
+	private static synchronized int assignIndex(GristType type)
+	{
+		GristType[] types = Arrays.copyOf(typesByIndex, typesByIndex.length + 1);
+		types[types.length - 1] = type;
+		typesByIndex = types;
+		indexOrder = null;
+		return types.length - 1;
+	}
+	
 	/**
 	 * Returns the resource location to the dummy grist icon texture
 	 * The actual field is private as to not get caught by the ObjectHolder on the class (because it checks all public static final fields).
@@ -70,6 +70,7 @@ public class GristTypes
 				.setName(new ResourceLocation(Minestuck.MOD_ID, "grist"))
 				.setType(GristType.class)
 				.set(DummyFactory.INSTANCE)
+				.onBake((owner, stage) -> GristType.invalidateIndexOrder())
 				.create();
 	}
 	
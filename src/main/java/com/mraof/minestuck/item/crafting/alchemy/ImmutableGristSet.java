@@ -2,18 +2,16 @@ package com.mraof.minestuck.item.crafting.alchemy;
 
 import com.google.common.collect.ImmutableMap;
 
-import java.util.Collections;
-
 public class ImmutableGristSet extends GristSet
 {
 	public ImmutableGristSet()
 	{
-		super(Collections.emptyMap());
+		super();
 	}
 	
 	public ImmutableGristSet(GristSet set)
 	{
-		super(ImmutableMap.copyOf(set.getMap()));
+		super(set);
 	}
 	
 	public ImmutableGristSet(ImmutableMap.Builder<GristType, Long> builder)
@@ -23,7 +21,32 @@ public class ImmutableGristSet extends GristSet
 	
 	public ImmutableGristSet(GristType type, long amount)
 	{
-		super(ImmutableMap.of(type, amount));
+		super(type, amount);
+	}
+	
+	@Override
+	public GristSet setGrist(GristType type, long amount)
+	{
+		throw new UnsupportedOperationException();
+	}
+	
+	@Override
+	public GristSet addGrist(GristType type, long amount)
+	{
+		throw new UnsupportedOperationException();
+	}
+	
+	/**
+	 * Scaling only changes positive amounts, so this only throws if there is something to scale.
+	 */
+	@Override
+	public GristSet scale(float scale, boolean roundDown)
+	{
+		forEach((type, amount) -> {
+			if(amount > 0)
+				throw new UnsupportedOperationException();
+		});
+		return this;
 	}
 	
 	@Override
@@ -32,4 +55,4 @@ public class ImmutableGristSet extends GristSet
 		return this;
 	}
 	
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+package com.mraof.minestuck.item.crafting.alchemy;
+
+import com.mraof.minestuck.Minestuck;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.RecipesUpdatedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Holds a recipe index for each recipe manager, built on the first lookup unless it has already been built after a reload.
+ * Recipe managers are weakly referenced, so indexes for discarded managers don't linger.
+ * On the client, indexes are dropped whenever recipes are received from the server.
+ */
+public final class RecipeIndexHolder<T>
+{
+	private static final List<RecipeIndexHolder<?>> HOLDERS = new CopyOnWriteArrayList<>();
+	
+	private final Map<RecipeManager, T> indexes = Collections.synchronizedMap(new WeakHashMap<>());
+	private final Function<RecipeManager, T> builder;
+	
+	RecipeIndexHolder(Function<RecipeManager, T> builder)
+	{
+		this.builder = builder;
+		HOLDERS.add(this);
+	}
+	
+	T get(RecipeManager recipeManager)
+	{
+		T index = indexes.get(recipeManager);
+		if(index == null)
+		{
+			index = builder.apply(recipeManager);
+			indexes.put(recipeManager, index);
+		}
+		return index;
+	}
+	
+	/**
+	 * Builds a new index for the recipe manager, replacing any previous index.
+	 */
+	void rebuild(RecipeManager recipeManager)
+	{
+		indexes.put(recipeManager, builder.apply(recipeManager));
+	}
+	
+	void invalidate(RecipeManager recipeManager)
+	{
+		indexes.remove(recipeManager);
+	}
+	
+	@Mod.EventBusSubscriber(modid = Minestuck.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+	public static class ClientHandler
+	{
+		@SubscribeEvent
+		public static void onRecipesUpdated(RecipesUpdatedEvent event)
+		{
+			for(RecipeIndexHolder<?> holder : HOLDERS)
+				holder.invalidate(event.getRecipeManager());
+		}
+	}
+}
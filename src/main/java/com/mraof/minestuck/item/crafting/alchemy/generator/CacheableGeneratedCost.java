@@ -0,0 +1,24 @@
+package com.mraof.minestuck.item.crafting.alchemy.generator;
+
+import net.minecraft.nbt.INBT;
+
+import javax.annotation.Nullable;
+
+/**
+ * Implemented by grist cost recipes that hold generated costs, so that {@link GeneratedCostCache} may save them
+ * and restore them on a later reload, instead of running grist cost generation again.
+ */
+public interface CacheableGeneratedCost
+{
+	/**
+	 * Called after grist cost generation has finished.
+	 * @return the generated costs of this recipe, or null if there is nothing to save
+	 */
+	@Nullable
+	INBT writeGeneratedCost();
+	
+	/**
+	 * Called in place of grist cost generation with the data previously returned by {@link #writeGeneratedCost()}.
+	 */
+	void readGeneratedCost(INBT nbt);
+}
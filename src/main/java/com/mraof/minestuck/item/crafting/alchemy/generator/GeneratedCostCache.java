@@ -0,0 +1,183 @@
+package com.mraof.minestuck.item.crafting.alchemy.generator;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.mraof.minestuck.Minestuck;
+import com.mraof.minestuck.MinestuckConfig;
+import com.mraof.minestuck.item.crafting.alchemy.GristCostRecipe;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.INBT;
+import net.minecraft.resources.IResource;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.minecraftforge.fml.loading.moddiscovery.ModInfo;
+import org.apache.commons.io.IOUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores generated grist costs on disk together with a hash of everything that grist cost generation depends on
+ * (recipes, item tags, grist cost generation sources, the config options that affect generation, the registered recipe interpreters and the loaded mods),
+ * so that a reload where none of those have changed can restore the costs instead of generating them again.
+ * Mods are hashed by version and by the size and modification time of their jar, so that a rebuilt jar with an unchanged version isn't mistaken for the old one.
+ * If Minestuck itself isn't loaded from a jar, as in a development environment, code changes can't be detected, so nothing is cached.
+ */
+final class GeneratedCostCache
+{
+	private static final Logger LOGGER = LogManager.getLogger();
+	
+	private static final int VERSION = 2;
+	private static final String[] HASHED_PATHS = {"recipes", "tags/items", "minestuck"};
+	
+	private final Path file = FMLPaths.GAMEDIR.get().resolve("minestuck").resolve("generated_grist_costs.dat");
+	
+	/**
+	 * Computes a hash of the data that grist cost generation depends on. Only reads resources, so it is fine to call this while preparing a reload.
+	 * @return the hash, or null if some resource could not be read
+	 */
+	@Nullable
+	static String hashSources(IResourceManager resourceManager)
+	{
+		Hasher hasher = Hashing.sha256().newHasher();
+		hasher.putInt(VERSION);
+		
+		//Config options that change what generation does (these only add logging, which would be skipped if the cache was used)
+		hasher.putBoolean(MinestuckConfig.COMMON.logIngredientItemsWithoutCosts.get());
+		hasher.putBoolean(MinestuckConfig.COMMON.logItemsWithRecipeAndCost.get());
+		
+		List<ResourceLocation> interpreters = new ArrayList<>(InterpreterSerializer.REGISTRY.getKeys());
+		interpreters.sort(null);
+		for(ResourceLocation interpreter : interpreters)
+			hasher.putString(interpreter.toString(), StandardCharsets.UTF_8);
+		
+		try
+		{
+			for(ModInfo mod : ModList.get().getMods())
+			{
+				hasher.putString(mod.getModId(), StandardCharsets.UTF_8).putString(mod.getVersion().toString(), StandardCharsets.UTF_8);
+				Path modFile = mod.getOwningFile().getFile().getFilePath();
+				if(Files.isRegularFile(modFile))
+					hasher.putLong(Files.size(modFile)).putLong(Files.getLastModifiedTime(modFile).toMillis());
+				else if(mod.getModId().equals(Minestuck.MOD_ID))
+				{
+					LOGGER.debug("Minestuck is not loaded from a jar file. Generated grist costs will not be cached.");
+					return null;
+				}
+			}
+			
+			for(String path : HASHED_PATHS)
+			{
+				List<ResourceLocation> locations = new ArrayList<>(resourceManager.getAllResourceLocations(path, name -> name.endsWith(".json")));
+				locations.sort(null);
+				for(ResourceLocation location : locations)
+				{
+					hasher.putString(location.toString(), StandardCharsets.UTF_8);
+					for(IResource resource : resourceManager.getAllResources(location))
+					{
+						try(InputStream input = resource.getInputStream())
+						{
+							hasher.putBytes(IOUtils.toByteArray(input));
+						} finally
+						{
+							IOUtils.closeQuietly(resource);
+						}
+					}
+				}
+			}
+		} catch(IOException e)
+		{
+			LOGGER.warn("Unable to hash grist cost sources. Generated grist costs will not be cached.", e);
+			return null;
+		}
+		
+		return hasher.hash().toString();
+	}
+	
+	/**
+	 * Restores generated costs for all the given recipes if the cache was saved with the same source hash.
+	 * @return true if costs were restored, or false if grist cost generation needs to run
+	 */
+	boolean load(String sourceHash, List<GristCostRecipe> recipes)
+	{
+		if(!Files.exists(file))
+			return false;
+		
+		CompoundNBT nbt;
+		try(InputStream input = Files.newInputStream(file))
+		{
+			nbt = CompressedStreamTools.readCompressed(input);
+		} catch(IOException e)
+		{
+			LOGGER.warn("Unable to read generated grist cost cache", e);
+			return false;
+		}
+		
+		if(nbt.getInt("version") != VERSION || !sourceHash.equals(nbt.getString("hash")))
+			return false;
+		
+		//With a matching hash, the recipes are the same as when the cache was saved, so recipes without an entry had nothing to save
+		CompoundNBT costs = nbt.getCompound("costs");
+		for(GristCostRecipe recipe : recipes)
+		{
+			String key = recipe.getId().toString();
+			if(recipe instanceof CacheableGeneratedCost && costs.contains(key))
+				((CacheableGeneratedCost) recipe).readGeneratedCost(costs.get(key));
+		}
+		return true;
+	}
+	
+	void save(String sourceHash, List<GristCostRecipe> recipes)
+	{
+		CompoundNBT costs = new CompoundNBT();
+		for(GristCostRecipe recipe : recipes)
+		{
+			if(recipe instanceof CacheableGeneratedCost)
+			{
+				INBT cost = ((CacheableGeneratedCost) recipe).writeGeneratedCost();
+				if(cost != null)
+					costs.put(recipe.getId().toString(), cost);
+			}
+		}
+		
+		CompoundNBT nbt = new CompoundNBT();
+		nbt.putInt("version", VERSION);
+		nbt.putString("hash", sourceHash);
+		nbt.put("costs", costs);
+		
+		try
+		{
+			//Written to a temporary file first, so that a crash while writing can't leave a truncated cache behind
+			Files.createDirectories(file.getParent());
+			Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+			try(OutputStream output = Files.newOutputStream(tempFile))
+			{
+				CompressedStreamTools.writeCompressed(nbt, output);
+			}
+			try
+			{
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch(AtomicMoveNotSupportedException e)
+			{
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch(IOException e)
+		{
+			LOGGER.warn("Unable to save generated grist cost cache", e);
+		}
+	}
+}
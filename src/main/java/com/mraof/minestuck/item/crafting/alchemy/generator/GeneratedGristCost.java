@@ -9,16 +9,20 @@ import net.minecraft.inventory.IInventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants;
 
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.BiConsumer;
 
-public abstract class GeneratedGristCost extends GristCostRecipe implements GeneratedCostProvider
+public abstract class GeneratedGristCost extends GristCostRecipe implements GeneratedCostProvider, CacheableGeneratedCost
 {
 	private ImmutableGristSet cachedCost = null;
 	private boolean hasGeneratedCost = false;
@@ -84,6 +88,23 @@ public abstract class GeneratedGristCost extends GristCostRecipe implements Gene
 	
 	protected abstract GristSet generateCost(GenerationContext context);
 	
+	@Override
+	public INBT writeGeneratedCost()
+	{
+		CompoundNBT nbt = new CompoundNBT();
+		if(cachedCost != null)
+			nbt.put("cost", cachedCost.write(new ListNBT()));
+		return nbt;
+	}
+	
+	@Override
+	public void readGeneratedCost(INBT nbt)
+	{
+		CompoundNBT compound = (CompoundNBT) nbt;
+		cachedCost = compound.contains("cost") ? GristSet.read(compound.getList("cost", Constants.NBT.TAG_COMPOUND)).asImmutable() : null;
+		hasGeneratedCost = true;
+	}
+	
 	protected final GristSet getCachedCost()
 	{
 		return cachedCost;
@@ -2,7 +2,9 @@ package com.mraof.minestuck.item.crafting.alchemy.generator;
 
 import com.mraof.minestuck.Minestuck;
 import com.mraof.minestuck.item.crafting.alchemy.GristCostRecipe;
+import com.mraof.minestuck.item.crafting.alchemy.GristCostRecipeIndex;
 import com.mraof.minestuck.item.crafting.alchemy.GristSet;
+import com.mraof.minestuck.tileentity.MiniAlchemiterTileEntity;
 import net.minecraft.client.resources.ReloadListener;
 import net.minecraft.item.Item;
 import net.minecraft.profiler.IProfiler;
@@ -19,8 +21,13 @@ import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Generates grist costs for all generated-cost recipes after each reload, or restores them through {@link GeneratedCostCache} if nothing they depend on has changed.
+ * Generation runs on the server thread. Providers find the costs they depend on lazily and recursively through {@link GenerationContext},
+ * and keep mutable state while doing so, so there is no dependency graph up front that independent parts could be run in parallel by.
+ */
 @Mod.EventBusSubscriber(modid = Minestuck.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
-public final class GristCostGenerator extends ReloadListener<Void>
+public final class GristCostGenerator extends ReloadListener<String>
 {
 	private static final Logger LOGGER = LogManager.getLogger();
 	
@@ -38,19 +45,41 @@ public final class GristCostGenerator extends ReloadListener<Void>
 	}
 	
 	@Override
-	protected Void prepare(IResourceManager resourceManagerIn, IProfiler profilerIn)
+	protected String prepare(IResourceManager resourceManagerIn, IProfiler profilerIn)
 	{
-		return null;
+		return GeneratedCostCache.hashSources(resourceManagerIn);
 	}
 	
 	@Override
-	protected void apply(Void splashList, IResourceManager resourceManagerIn, IProfiler profilerIn)
+	protected void apply(String sourceHash, IResourceManager resourceManagerIn, IProfiler profilerIn)
+	{
+		GristCostRecipeIndex.invalidate(server.getRecipeManager());
+		
+		Stream<GristCostRecipe> stream = server.getRecipeManager().getRecipes().stream().filter(recipe -> recipe instanceof GristCostRecipe).map(recipe -> (GristCostRecipe) recipe);
+		List<GristCostRecipe> recipes = stream.sorted(Comparator.comparingInt(value -> -value.getPriority())).collect(Collectors.toList());
+		
+		GeneratedCostCache cache = new GeneratedCostCache();
+		if(sourceHash != null && cache.load(sourceHash, recipes))
+		{
+			LOGGER.info("Recipes and grist cost sources are unchanged. Using cached grist costs instead of generating them.");
+		} else
+		{
+			generate(recipes);
+			if(sourceHash != null)
+				cache.save(sourceHash, recipes);
+		}
+		
+		//Prepare the item lookup index for the reloaded recipes
+		GristCostRecipeIndex.rebuild(server.getRecipeManager());
+		MiniAlchemiterTileEntity.onGristCostsReloaded();
+	}
+	
+	private void generate(List<GristCostRecipe> recipes)
 	{
 		GeneratorProcess process = new GeneratorProcess();
 		
 		//Collect providers
-		Stream<GristCostRecipe> stream = server.getRecipeManager().getRecipes().stream().filter(recipe -> recipe instanceof GristCostRecipe).map(recipe -> (GristCostRecipe) recipe);
-		for(GristCostRecipe recipe : stream.sorted(Comparator.comparingInt(value -> -value.getPriority())).collect(Collectors.toList()))
+		for(GristCostRecipe recipe : recipes)
 		{
 			recipe.addCostProvider((item, provider) ->
 			{
@@ -6,9 +6,13 @@ import com.google.gson.reflect.TypeToken;
 import com.mraof.minestuck.Minestuck;
 import com.mraof.minestuck.item.crafting.alchemy.GristSet;
 import com.mraof.minestuck.jei.JeiGristCost;
+import com.mraof.minestuck.util.MSNBTUtil;
 import net.minecraft.client.resources.ReloadListener;
 import net.minecraft.item.Item;
+import net.minecraft.item.Items;
 import net.minecraft.item.crafting.*;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.profiler.IProfiler;
 import net.minecraft.resources.IResource;
@@ -17,6 +21,7 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.JSONUtils;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.registry.Registry;
+import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -96,6 +101,35 @@ public class RecipeGeneratedCostHandler extends ReloadListener<List<RecipeGenera
 		return new RecipeGeneratedCostHandler(builder.build());
 	}
 	
+	ListNBT writeGeneratedCosts()
+	{
+		ListNBT list = new ListNBT();
+		for(Map.Entry<Item, GristSet> entry : generatedCosts.entrySet())
+		{
+			CompoundNBT nbt = new CompoundNBT();
+			MSNBTUtil.writeResourceLocation(nbt, "item", entry.getKey().getRegistryName());
+			nbt.put("cost", entry.getValue().write(new ListNBT()));
+			list.add(nbt);
+		}
+		return list;
+	}
+	
+	void readGeneratedCosts(ListNBT list)
+	{
+		ImmutableMap.Builder<Item, GristSet> builder = new ImmutableMap.Builder<>();
+		for(int i = 0; i < list.size(); i++)
+		{
+			CompoundNBT nbt = list.getCompound(i);
+			ResourceLocation name = MSNBTUtil.tryReadResourceLocation(nbt, "item");
+			Item item = name != null ? ForgeRegistries.ITEMS.getValue(name) : null;
+			if(item != null && item != Items.AIR)
+				builder.put(item, GristSet.read(nbt.getList("cost", Constants.NBT.TAG_COMPOUND)).asImmutable());
+		}
+		generatedCosts = builder.build();
+		process = null;
+		LOGGER.info("Loaded {} grist conversions from the generated grist cost cache.", generatedCosts.size());
+	}
+	
 	List<JeiGristCost> createJeiCosts()
 	{
 		List<JeiGristCost> costs = new ArrayList<>();
@@ -11,6 +11,8 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipeSerializer;
 import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
@@ -21,7 +23,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.BiConsumer;
 
-public class RecipeGeneratedGristCost extends GristCostRecipe
+public class RecipeGeneratedGristCost extends GristCostRecipe implements CacheableGeneratedCost
 {
 	private RecipeGeneratedCostHandler handler;
 	
@@ -62,6 +64,21 @@ public class RecipeGeneratedGristCost extends GristCostRecipe
 			handler.addAsProvider(consumer);
 	}
 	
+	@Override
+	public INBT writeGeneratedCost()
+	{
+		if(handler != null)
+			return handler.writeGeneratedCosts();
+		else return null;
+	}
+	
+	@Override
+	public void readGeneratedCost(INBT nbt)
+	{
+		if(handler != null)
+			handler.readGeneratedCosts((ListNBT) nbt);
+	}
+	
 	@Override
 	public NonNullList<Ingredient> getIngredients()
 	{
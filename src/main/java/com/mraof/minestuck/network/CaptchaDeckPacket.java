@@ -3,6 +3,7 @@ package com.mraof.minestuck.network;
 import com.mraof.minestuck.computer.editmode.ServerEditHandler;
 import com.mraof.minestuck.inventory.captchalogue.CaptchaDeckContainer;
 import com.mraof.minestuck.inventory.captchalogue.CaptchaDeckHandler;
+import com.mraof.minestuck.world.storage.PlayerSavedData;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.inventory.EquipmentSlotType;
 import net.minecraft.nbt.CompoundNBT;
@@ -16,6 +17,7 @@ public class CaptchaDeckPacket implements PlayToServerPacket
 	private static final byte GET = 2;
 	private static final byte MODUS_PARAM = 3;
 	private static final byte CAPTCHALOGUE_INV = 4;
+	private static final byte RESYNC = 5;
 	
 	public byte type;
 	
@@ -74,6 +76,14 @@ public class CaptchaDeckPacket implements PlayToServerPacket
 		return packet;
 	}
 	
+	public static CaptchaDeckPacket resync()
+	{
+		CaptchaDeckPacket packet = new CaptchaDeckPacket();
+		packet.type = RESYNC;
+		
+		return packet;
+	}
+	
 	@Override
 	public void encode(PacketBuffer buffer)
 	{
@@ -121,6 +131,12 @@ public class CaptchaDeckPacket implements PlayToServerPacket
 	@Override
 	public void execute(ServerPlayerEntity player)
 	{
+		if(this.type == RESYNC)
+		{
+			PlayerSavedData.getData(player).sendFullModus(player);
+			return;
+		}
+		
 		if(ServerEditHandler.getData(player) != null)
 			return;
 		
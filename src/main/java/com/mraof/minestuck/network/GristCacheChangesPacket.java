@@ -0,0 +1,48 @@
+package com.mraof.minestuck.network;
+
+import com.mraof.minestuck.item.crafting.alchemy.GristAmount;
+import com.mraof.minestuck.world.storage.ClientPlayerData;
+import net.minecraft.network.PacketBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends the new amounts of the grist types that changed since the last update, as opposed to {@link GristCachePacket} which sends the whole cache.
+ * Amounts may be zero, which is why this uses a list of grist amounts instead of a grist set.
+ */
+public class GristCacheChangesPacket implements PlayToClientPacket
+{
+	public final List<GristAmount> changes;
+	public final boolean isEditmode;
+	
+	public GristCacheChangesPacket(List<GristAmount> changes, boolean isEditmode)
+	{
+		this.changes = changes;
+		this.isEditmode = isEditmode;
+	}
+	
+	@Override
+	public void encode(PacketBuffer buffer)
+	{
+		buffer.writeVarInt(changes.size());
+		changes.forEach(amount -> amount.write(buffer));
+		buffer.writeBoolean(isEditmode);
+	}
+	
+	public static GristCacheChangesPacket decode(PacketBuffer buffer)
+	{
+		int size = buffer.readVarInt();
+		List<GristAmount> changes = new ArrayList<>(size);
+		for(int i = 0; i < size; i++)
+			changes.add(GristAmount.read(buffer));
+		boolean isEditmode = buffer.readBoolean();
+		return new GristCacheChangesPacket(changes, isEditmode);
+	}
+	
+	@Override
+	public void execute()
+	{
+		ClientPlayerData.onPacketReceived(this);
+	}
+}
@@ -15,7 +15,7 @@ import java.util.function.Supplier;
 
 public class MSPacketHandler
 {
-	private static final String PROTOCOL_VERSION = "1";
+	private static final String PROTOCOL_VERSION = "2";
 	public static final SimpleChannel INSTANCE = NetworkRegistry.newSimpleChannel(new ResourceLocation(Minestuck.MOD_ID, "main"),
 			() -> PROTOCOL_VERSION, PROTOCOL_VERSION::equals, PROTOCOL_VERSION::equals);
 	
@@ -49,6 +49,9 @@ public class MSPacketHandler
 		registerMessage(TransportalizerPacket.class, TransportalizerPacket::decode);
 		registerMessage(EffectTogglePacket.class, EffectTogglePacket::decode);
 		registerMessage(StoneTabletPacket.class, StoneTabletPacket::decode);
+		
+		registerMessage(GristCacheChangesPacket.class, GristCacheChangesPacket::decode);
+		registerMessage(ModusChangesPacket.class, ModusChangesPacket::decode);
 	}
 	
 	private static int nextIndex;
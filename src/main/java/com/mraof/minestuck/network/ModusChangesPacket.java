@@ -0,0 +1,283 @@
+package com.mraof.minestuck.network;
+
+import com.mraof.minestuck.world.storage.ClientPlayerData;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.network.PacketBuffer;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Sends what changed in the modus data since the version that was last sent to the player, as opposed to {@link ModusDataPacket} which sends all of it.
+ * Tags with keys of the form name + index (such as "item3") are treated as card slots in a list by that name.
+ * Cards being inserted or removed at some index of such a list are sent as a shift of the later slots,
+ * so that for example captchaloguing to a stack modus does not resend every other card.
+ * Lists with indices spread far beyond their number of slots (such as the "node" indices of a tree modus) are not handled as lists,
+ * and their changed or removed slots are sent like other tags.
+ * Other changed tags are sent as they are, and removed tags by key.
+ * If the client does not have the base version, it asks for the full modus data instead.
+ */
+public class ModusChangesPacket implements PlayToClientPacket
+{
+	/**
+	 * Lists where the highest index is larger than this many times the number of slots are compared slot by slot instead of being handled as lists.
+	 */
+	private static final int SPARSE_FACTOR = 4;
+	
+	public final int baseVersion, version;
+	private final List<Shift> shifts;
+	private final List<String> removed;
+	private final CompoundNBT changed;
+	
+	private ModusChangesPacket(int baseVersion, int version, List<Shift> shifts, List<String> removed, CompoundNBT changed)
+	{
+		this.baseVersion = baseVersion;
+		this.version = version;
+		this.shifts = shifts;
+		this.removed = removed;
+		this.changed = changed;
+	}
+	
+	/**
+	 * @return a packet with the changes from the old to the new modus data, or null if the changes would not be smaller than the full data.
+	 */
+	@Nullable
+	public static ModusChangesPacket create(CompoundNBT oldNBT, CompoundNBT newNBT, int baseVersion, int version)
+	{
+		if(!oldNBT.getString("type").equals(newNBT.getString("type")))
+			return null;
+		
+		List<Shift> shifts = new ArrayList<>();
+		List<String> removed = new ArrayList<>();
+		CompoundNBT changed = new CompoundNBT();
+		
+		Map<String, Map<Integer, INBT>> oldLists = new HashMap<>(), newLists = new HashMap<>();
+		for(String key : oldNBT.keySet())
+			if(!putInList(oldLists, key, oldNBT.get(key)) && !newNBT.contains(key))
+				removed.add(key);
+		for(String key : newNBT.keySet())
+			if(!putInList(newLists, key, newNBT.get(key)) && !Objects.equals(oldNBT.get(key), newNBT.get(key)))
+				changed.put(key, newNBT.get(key));
+		
+		Set<String> names = new HashSet<>(oldLists.keySet());
+		names.addAll(newLists.keySet());
+		for(String name : names)
+		{
+			Map<Integer, INBT> oldList = oldLists.getOrDefault(name, Collections.emptyMap()), newList = newLists.getOrDefault(name, Collections.emptyMap());
+			if(isSparse(oldList) || isSparse(newList))
+				compareSlots(name, oldList, newList, removed, changed);
+			else compareList(name, toArray(oldList), toArray(newList), shifts, removed, changed);
+		}
+		
+		if(removed.size() + changed.size() >= newNBT.size())
+			return null;
+		return new ModusChangesPacket(baseVersion, version, shifts, removed, changed);
+	}
+	
+	private static boolean isSparse(Map<Integer, INBT> list)
+	{
+		return !list.isEmpty() && Collections.max(list.keySet()) > SPARSE_FACTOR * list.size();
+	}
+	
+	private static void compareSlots(String name, Map<Integer, INBT> oldList, Map<Integer, INBT> newList, List<String> removed, CompoundNBT changed)
+	{
+		for(Integer index : oldList.keySet())
+			if(!newList.containsKey(index))
+				removed.add(name + index);
+		newList.forEach((index, tag) -> {
+			if(!tag.equals(oldList.get(index)))
+				changed.put(name + index, tag);
+		});
+	}
+	
+	private static void compareList(String name, INBT[] oldList, INBT[] newList, List<Shift> shifts, List<String> removed, CompoundNBT changed)
+	{
+		int first = 0;
+		while(first < Math.max(oldList.length, newList.length) && Objects.equals(get(oldList, first), get(newList, first)))
+			first++;
+		if(first == Math.max(oldList.length, newList.length))
+			return;
+		
+		//Look for the closest insertion or removal at the first difference that lines up the following cards, and use it if it results in fewer changes
+		int amount = findShift(oldList, newList, first);
+		if(amount != 0)
+		{
+			INBT[] shifted = shift(oldList, first, amount);
+			if(countDifferences(shifted, newList, first) < countDifferences(oldList, newList, first))
+			{
+				shifts.add(new Shift(name, first, amount));
+				oldList = shifted;
+			}
+		}
+		
+		for(int i = first; i < Math.max(oldList.length, newList.length); i++)
+		{
+			INBT newTag = get(newList, i);
+			if(newTag == null)
+			{
+				if(get(oldList, i) != null)
+					removed.add(name + i);
+			} else if(!newTag.equals(get(oldList, i)))
+				changed.put(name + i, newTag);
+		}
+	}
+	
+	private static int findShift(INBT[] oldList, INBT[] newList, int index)
+	{
+		INBT oldTag = get(oldList, index), newTag = get(newList, index);
+		for(int i = 1; index + i < Math.max(oldList.length, newList.length); i++)
+		{
+			if(oldTag != null && oldTag.equals(get(newList, index + i)))
+				return i;
+			if(newTag != null && newTag.equals(get(oldList, index + i)))
+				return -i;
+		}
+		return 0;
+	}
+	
+	private static int countDifferences(INBT[] oldList, INBT[] newList, int start)
+	{
+		int count = 0;
+		for(int i = start; i < Math.max(oldList.length, newList.length); i++)
+			if(!Objects.equals(get(oldList, i), get(newList, i)))
+				count++;
+		return count;
+	}
+	
+	/**
+	 * Inserts empty slots at the index if the amount is positive, and removes slots from the index if it is negative.
+	 */
+	private static INBT[] shift(INBT[] list, int index, int amount)
+	{
+		if(index >= list.length)
+			return list;
+		INBT[] shifted = new INBT[Math.max(index, list.length + amount)];
+		System.arraycopy(list, 0, shifted, 0, index);
+		if(amount > 0)
+			System.arraycopy(list, index, shifted, index + amount, list.length - index);
+		else if(index - amount < list.length)
+			System.arraycopy(list, index - amount, shifted, index, list.length - index + amount);
+		return shifted;
+	}
+	
+	@Nullable
+	private static INBT get(INBT[] list, int index)
+	{
+		return index < list.length ? list[index] : null;
+	}
+	
+	private static INBT[] toArray(Map<Integer, INBT> list)
+	{
+		if(list.isEmpty())
+			return new INBT[0];
+		INBT[] array = new INBT[Collections.max(list.keySet()) + 1];
+		list.forEach((index, tag) -> array[index] = tag);
+		return array;
+	}
+	
+	private static boolean putInList(Map<String, Map<Integer, INBT>> lists, String key, INBT tag)
+	{
+		int index = getIndex(key);
+		if(index == -1)
+			return false;
+		lists.computeIfAbsent(key.substring(0, key.length() - Integer.toString(index).length()), name -> new HashMap<>()).put(index, tag);
+		return true;
+	}
+	
+	/**
+	 * @return the index of the card slot that the key refers to, or -1 if the key is not for a card slot
+	 */
+	private static int getIndex(String key)
+	{
+		int start = key.length();
+		while(start > 0 && Character.isDigit(key.charAt(start - 1)))
+			start--;
+		if(start == 0 || start == key.length() || key.length() - start > 6 || key.charAt(start) == '0' && start < key.length() - 1)
+			return -1;
+		return Integer.parseInt(key.substring(start));
+	}
+	
+	/**
+	 * Applies the changes to the modus data of the base version, turning it into the data of the new version.
+	 */
+	public void applyTo(CompoundNBT nbt)
+	{
+		for(Shift shift : shifts)
+			shift.applyTo(nbt);
+		for(String key : removed)
+			nbt.remove(key);
+		for(String key : changed.keySet())
+			nbt.put(key, changed.get(key));
+	}
+	
+	@Override
+	public void encode(PacketBuffer buffer)
+	{
+		buffer.writeVarInt(baseVersion);
+		buffer.writeVarInt(version);
+		buffer.writeVarInt(shifts.size());
+		for(Shift shift : shifts)
+		{
+			buffer.writeString(shift.name);
+			buffer.writeVarInt(shift.index);
+			buffer.writeInt(shift.amount);
+		}
+		buffer.writeVarInt(removed.size());
+		removed.forEach(buffer::writeString);
+		buffer.writeCompoundTag(changed);
+	}
+	
+	public static ModusChangesPacket decode(PacketBuffer buffer)
+	{
+		int baseVersion = buffer.readVarInt();
+		int version = buffer.readVarInt();
+		int size = buffer.readVarInt();
+		List<Shift> shifts = new ArrayList<>(size);
+		for(int i = 0; i < size; i++)
+			shifts.add(new Shift(buffer.readString(32767), buffer.readVarInt(), buffer.readInt()));
+		size = buffer.readVarInt();
+		List<String> removed = new ArrayList<>(size);
+		for(int i = 0; i < size; i++)
+			removed.add(buffer.readString(32767));
+		CompoundNBT changed = buffer.readCompoundTag();
+		return new ModusChangesPacket(baseVersion, version, shifts, removed, changed != null ? changed : new CompoundNBT());
+	}
+	
+	@Override
+	public void execute()
+	{
+		ClientPlayerData.onPacketReceived(this);
+	}
+	
+	private static class Shift
+	{
+		private final String name;
+		private final int index, amount;
+		
+		private Shift(String name, int index, int amount)
+		{
+			this.name = name;
+			this.index = index;
+			this.amount = amount;
+		}
+		
+		private void applyTo(CompoundNBT nbt)
+		{
+			Map<Integer, INBT> list = new HashMap<>();
+			for(String key : new ArrayList<>(nbt.keySet()))
+			{
+				int i = getIndex(key);
+				if(i >= index && key.equals(name + i))
+				{
+					list.put(i, nbt.get(key));
+					nbt.remove(key);
+				}
+			}
+			list.forEach((i, tag) -> {
+				if(amount > 0 || i >= index - amount)
+					nbt.put(name + (i + amount), tag);
+			});
+		}
+	}
+}
@@ -1,8 +1,5 @@
 package com.mraof.minestuck.network;
 
-import com.mraof.minestuck.client.gui.MSScreenFactories;
-import com.mraof.minestuck.inventory.captchalogue.CaptchaDeckHandler;
-import com.mraof.minestuck.util.Debug;
 import com.mraof.minestuck.world.storage.ClientPlayerData;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.CompressedStreamTools;
@@ -13,23 +10,29 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Objects;
 
+/**
+ * Sends all modus data to the player. Changes after this are usually sent by {@link ModusChangesPacket}, which use the version as a base.
+ */
 public class ModusDataPacket implements PlayToClientPacket
 {
-	private final CompoundNBT nbt;
+	public final CompoundNBT nbt;
+	public final int version;
 	
-	private ModusDataPacket(CompoundNBT nbt)
+	private ModusDataPacket(CompoundNBT nbt, int version)
 	{
 		this.nbt = Objects.requireNonNull(nbt);
+		this.version = version;
 	}
 	
-	public static ModusDataPacket create(CompoundNBT nbt)
+	public static ModusDataPacket create(CompoundNBT nbt, int version)
 	{
-		return new ModusDataPacket(nbt);
+		return new ModusDataPacket(nbt, version);
 	}
 	
 	@Override
 	public void encode(PacketBuffer buffer)
 	{
+		buffer.writeVarInt(version);
 		try
 		{
 			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
@@ -43,12 +46,13 @@ public class ModusDataPacket implements PlayToClientPacket
 	
 	public static ModusDataPacket decode(PacketBuffer buffer)
 	{
+		int version = buffer.readVarInt();
 		byte[] bytes = new byte[buffer.readableBytes()];
 		buffer.readBytes(bytes);
 		try
 		{
 			CompoundNBT nbt = CompressedStreamTools.readCompressed(new ByteArrayInputStream(bytes));
-			return new ModusDataPacket(nbt);
+			return new ModusDataPacket(nbt, version);
 		} catch(IOException e)
 		{
 			throw new IllegalStateException(e);
@@ -58,9 +62,6 @@ public class ModusDataPacket implements PlayToClientPacket
 	@Override
 	public void execute()
 	{
-		ClientPlayerData.clientSideModus = CaptchaDeckHandler.readFromNBT(nbt, null);
-		if(ClientPlayerData.clientSideModus != null)
-			MSScreenFactories.updateSylladexScreen();
-		else Debug.debug("Player lost their modus after update packet");
+		ClientPlayerData.onPacketReceived(this);
 	}
 }
\ No newline at end of file
@@ -100,7 +100,7 @@ public class Echeladder
 				boondollarsGained += BOONDOLLARS[Math.min(rung, BOONDOLLARS.length - 1)];
 				exp -= (expReq - progress);
 				progress = 0;
-				savedData.markDirty();
+				savedData.markDirty(identifier);
 				expReq = getRungProgressReq();
 				if(rung >= topRung)
 					break increment;
@@ -111,7 +111,7 @@ public class Echeladder
 			if(exp >= expReq/50)
 			{
 				progress += exp;
-				savedData.markDirty();
+				savedData.markDirty(identifier);
 				Debug.debugf("Added remainder exp to progress, which is now at %s", progress);
 			} else Debug.debugf("Remaining exp %s is below the threshold of 1/50 out of the exp requirement, which is %s, and will therefore be ignored", exp, expReq/50);
 		}
@@ -136,12 +136,12 @@ public class Echeladder
 		if(type >= UNDERLING_BONUS_OFFSET && type < UNDERLING_BONUS_OFFSET + underlingBonuses.length && !underlingBonuses[type - UNDERLING_BONUS_OFFSET])
 		{
 			underlingBonuses[type - UNDERLING_BONUS_OFFSET] = true;
-			savedData.markDirty();
+			savedData.markDirty(identifier);
 			increaseProgress(UNDERLING_BONUSES[type - UNDERLING_BONUS_OFFSET]);
 		} else if(type >= ALCHEMY_BONUS_OFFSET && type < ALCHEMY_BONUS_OFFSET + alchemyBonuses.length && !alchemyBonuses[type - ALCHEMY_BONUS_OFFSET])
 		{
 			alchemyBonuses[type - ALCHEMY_BONUS_OFFSET] = true;
-			savedData.markDirty();
+			savedData.markDirty(identifier);
 			increaseProgress(ALCHEMY_BONUSES[type - ALCHEMY_BONUS_OFFSET]);
 		}
 	}
@@ -250,7 +250,7 @@ public class Echeladder
 		
 		if(prevProgress != this.progress || prevRung != this.rung)
 		{
-			savedData.markDirty();
+			savedData.markDirty(identifier);
 			ServerPlayerEntity player = identifier.getPlayer(savedData.mcServer);
 			if(player != null && (MinestuckConfig.echeladderProgress.get() || prevRung != this.rung))
 			{
@@ -57,7 +57,9 @@ public class IdentifierHandler
 				identifier = new UUIDIdentifier(nextIdentifierId, nbt.getUniqueId(key));
 				break;
 			case "fake":
-				identifier = new FakeIdentifier(nextIdentifierId, nbt.getInt(key+"count"));
+				int count = nbt.getInt(key+"_count");
+				fakePlayerIndex = Math.max(fakePlayerIndex, count + 1);
+				identifier = new FakeIdentifier(nextIdentifierId, count);
 				break;
 			default: throw new IllegalArgumentException("Can't parse identifier type "+type);
 		}
@@ -135,6 +137,23 @@ public class IdentifierHandler
 		return identifier;
 	}
 	
+	/**
+	 * Fake player data is saved in files named after the fake identifier, so the index of the next fake player is saved with the player data
+	 * to not give a new fake player the data of an old one.
+	 */
+	public static int getFakePlayerIndex()
+	{
+		return fakePlayerIndex;
+	}
+	
+	/**
+	 * Makes sure that new fake identifiers don't use any index below the given one.
+	 */
+	public static void loadFakePlayerIndex(int index)
+	{
+		fakePlayerIndex = Math.max(fakePlayerIndex, index);
+	}
+	
 	public static void clear()
 	{
 		identifierList.clear();
@@ -0,0 +1,266 @@
+package com.mraof.minestuck.skaianet;
+
+import com.mraof.minestuck.computer.editmode.DeployList;
+import com.mraof.minestuck.player.PlayerIdentifier;
+import net.minecraft.util.math.GlobalPos;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Holds all sburb connections of a {@link SkaianetHandler}, together with lookup maps by client player, server player,
+ * (client, server) pair and server computer position.
+ * Connections with a changed server player or changed computer positions must be reindexed,
+ * which {@link SburbConnection} does through {@link #onServerPlayerChanged} and {@link #onComputersChanged}.
+ * Iteration and all lookups follow the order in which connections were added, so that the first match is the same as with a plain list.
+ * Any change to a registered connection is also reported to the {@link InfoTracker}, so that info about the players involved can be resent.
+ */
+final class ConnectionRegistry implements Iterable<SburbConnection>
+{
+	private final InfoTracker infoTracker;
+	private final List<SburbConnection> connections = new ArrayList<>();
+	private final Map<PlayerIdentifier, List<SburbConnection>> byClient = new HashMap<>();
+	private final Map<PlayerIdentifier, List<SburbConnection>> byServer = new HashMap<>();
+	private final Map<PlayerPair, SburbConnection> byPlayers = new HashMap<>();
+	private final Map<GlobalPos, SburbConnection> byServerComputer = new HashMap<>();
+	
+	ConnectionRegistry(InfoTracker infoTracker)
+	{
+		this.infoTracker = infoTracker;
+	}
+	
+	void add(SburbConnection connection)
+	{
+		connections.add(connection);
+		byClient.computeIfAbsent(connection.getClientIdentifier(), identifier -> new ArrayList<>(1)).add(connection);
+		indexServer(connection);
+		indexServerComputer(connection);
+		markChanged(connection);
+		infoTracker.markSessionsDirty();
+	}
+	
+	void addAll(Collection<SburbConnection> connections)
+	{
+		connections.forEach(this::add);
+	}
+	
+	boolean remove(SburbConnection connection)
+	{
+		if(!connections.remove(connection))
+			return false;
+		unindex(connection);
+		return true;
+	}
+	
+	boolean contains(SburbConnection connection)
+	{
+		List<SburbConnection> list = byClient.get(connection.getClientIdentifier());
+		return list != null && list.contains(connection);
+	}
+	
+	@Override
+	public Iterator<SburbConnection> iterator()
+	{
+		Iterator<SburbConnection> iterator = connections.iterator();
+		return new Iterator<SburbConnection>()
+		{
+			private SburbConnection last;
+			
+			@Override
+			public boolean hasNext()
+			{
+				return iterator.hasNext();
+			}
+			
+			@Override
+			public SburbConnection next()
+			{
+				return last = iterator.next();
+			}
+			
+			@Override
+			public void remove()
+			{
+				iterator.remove();
+				unindex(last);
+			}
+		};
+	}
+	
+	/**
+	 * @return The first active connection with the player as client, or null if there is none.
+	 */
+	@Nullable
+	SburbConnection getActiveConnection(PlayerIdentifier client)
+	{
+		for(SburbConnection c : byClient.getOrDefault(client, Collections.emptyList()))
+			if(c.isActive())
+				return c;
+		return null;
+	}
+	
+	/**
+	 * @return The first main connection with the player as client or server, or null if there is none.
+	 */
+	@Nullable
+	SburbConnection getMainConnection(PlayerIdentifier player, boolean isClient)
+	{
+		for(SburbConnection c : (isClient ? byClient : byServer).getOrDefault(player, Collections.emptyList()))
+			if(c.isMain())
+				return c;
+		return null;
+	}
+	
+	@Nullable
+	SburbConnection getConnection(PlayerIdentifier client, PlayerIdentifier server)
+	{
+		return byPlayers.get(new PlayerPair(client, server));
+	}
+	
+	/**
+	 * @return The active connection that last had its server computer set to the given position, or null if there is none.
+	 */
+	@Nullable
+	SburbConnection getByServerComputer(GlobalPos pos)
+	{
+		return byServerComputer.get(pos);
+	}
+	
+	/**
+	 * @return All connections with the player as either client or server, in the order that they were added.
+	 */
+	List<SburbConnection> getConnectionsWith(PlayerIdentifier player)
+	{
+		List<SburbConnection> asClient = byClient.getOrDefault(player, Collections.emptyList());
+		List<SburbConnection> asServer = byServer.getOrDefault(player, Collections.emptyList());
+		if(asServer.isEmpty())
+			return asClient;
+		if(asClient.isEmpty())
+			return asServer;
+		
+		Set<SburbConnection> set = new HashSet<>(asClient);
+		set.addAll(asServer);
+		List<SburbConnection> list = new ArrayList<>(set.size());
+		for(SburbConnection c : connections)
+			if(set.contains(c))
+				list.add(c);
+		return list;
+	}
+	
+	void onServerPlayerChanged(SburbConnection connection, PlayerIdentifier oldServer)
+	{
+		if(!contains(connection))
+			return;
+		infoTracker.markDirty(oldServer);
+		markChanged(connection);
+		removeFrom(byServer, oldServer, connection);
+		PlayerPair oldPair = new PlayerPair(connection.getClientIdentifier(), oldServer);
+		if(byPlayers.get(oldPair) == connection)
+			replacePairEntry(oldPair, connection);
+		indexServer(connection);
+	}
+	
+	void onComputersChanged(SburbConnection connection, @Nullable GlobalPos oldServerComputer)
+	{
+		if(!contains(connection))
+			return;
+		markChanged(connection);
+		if(oldServerComputer != null && byServerComputer.get(oldServerComputer) == connection)
+			byServerComputer.remove(oldServerComputer);
+		indexServerComputer(connection);
+	}
+	
+	/**
+	 * Called when data of a connection that is sent to clients has changed, other than its server player or computers.
+	 */
+	void onConnectionChanged(SburbConnection connection)
+	{
+		if(contains(connection))
+			markChanged(connection);
+	}
+	
+	private void markChanged(SburbConnection connection)
+	{
+		DeployList.invalidateCaches();	//The deploy list tier depends on the connections in a session and whether they have entered
+		infoTracker.markDirty(connection.getClientIdentifier());
+		infoTracker.markDirty(connection.getServerIdentifier());
+	}
+	
+	private void indexServer(SburbConnection connection)
+	{
+		byServer.computeIfAbsent(connection.getServerIdentifier(), identifier -> new ArrayList<>(1)).add(connection);
+		byPlayers.putIfAbsent(new PlayerPair(connection.getClientIdentifier(), connection.getServerIdentifier()), connection);
+	}
+	
+	private void indexServerComputer(SburbConnection connection)
+	{
+		if(connection.isActive())
+			byServerComputer.put(connection.getServerComputer(), connection);
+	}
+	
+	private void unindex(SburbConnection connection)
+	{
+		removeFrom(byClient, connection.getClientIdentifier(), connection);
+		removeFrom(byServer, connection.getServerIdentifier(), connection);
+		PlayerPair pair = new PlayerPair(connection.getClientIdentifier(), connection.getServerIdentifier());
+		if(byPlayers.get(pair) == connection)
+			replacePairEntry(pair, connection);
+		if(connection.isActive() && byServerComputer.get(connection.getServerComputer()) == connection)
+			byServerComputer.remove(connection.getServerComputer());
+		markChanged(connection);
+		infoTracker.markSessionsDirty();
+	}
+	
+	/**
+	 * Replaces the pair entry of a connection that is being removed or moved by the next connection with the same pair, if there is one.
+	 */
+	private void replacePairEntry(PlayerPair pair, SburbConnection removed)
+	{
+		byPlayers.remove(pair);
+		for(SburbConnection c : byClient.getOrDefault(pair.client, Collections.emptyList()))
+			if(c != removed && c.getServerIdentifier().equals(pair.server))
+			{
+				byPlayers.put(pair, c);
+				return;
+			}
+	}
+	
+	private static void removeFrom(Map<PlayerIdentifier, List<SburbConnection>> map, PlayerIdentifier key, SburbConnection connection)
+	{
+		List<SburbConnection> list = map.get(key);
+		if(list != null)
+		{
+			list.remove(connection);
+			if(list.isEmpty())
+				map.remove(key);
+		}
+	}
+	
+	private static class PlayerPair
+	{
+		private final PlayerIdentifier client, server;
+		
+		private PlayerPair(PlayerIdentifier client, PlayerIdentifier server)
+		{
+			this.client = client;
+			this.server = server;
+		}
+		
+		@Override
+		public boolean equals(Object o)
+		{
+			if(this == o)
+				return true;
+			if(o == null || getClass() != o.getClass())
+				return false;
+			PlayerPair that = (PlayerPair) o;
+			return client.equals(that.client) && server.equals(that.server);
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(client, server);
+		}
+	}
+}
@@ -9,7 +9,9 @@ import com.mraof.minestuck.player.IdentifierHandler;
 import com.mraof.minestuck.player.PlayerIdentifier;
 import com.mraof.minestuck.util.Debug;
 import com.mraof.minestuck.util.LazyInstance;
+import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.StringTextComponent;
 import net.minecraft.util.text.Style;
@@ -31,6 +33,23 @@ public final class InfoTracker
 	private final SkaianetHandler skaianet;
 	
 	private final Map<PlayerIdentifier, Set<PlayerIdentifier>> infoToSend = new HashMap<>();	//Key: player, value: data to send to player
+	/**
+	 * The encoded packets last sent to each player, so that packets with unchanged info aren't sent again.
+	 * Key: player, value: map from the player that the info is about to the encoded bytes
+	 */
+	private final Map<PlayerIdentifier, Map<PlayerIdentifier, byte[]>> sentInfo = new HashMap<>();
+	/**
+	 * Players whose info may have changed since it was last sent.
+	 */
+	private final Set<PlayerIdentifier> dirtyPlayers = new HashSet<>();
+	/**
+	 * If set, the list of open servers may have changed for any player, since a server was opened or closed.
+	 */
+	private boolean serverListDirty;
+	/**
+	 * If set, sessions may have changed, which may change which open servers that players can connect to.
+	 */
+	private boolean sessionsDirty;
 	/**
 	 * Chains of lands to be used by the skybox render
 	 */
@@ -55,6 +74,7 @@ public final class InfoTracker
 	{
 		PlayerIdentifier identifier = IdentifierHandler.encode(player);
 		infoToSend.put(identifier, new HashSet<>(Collections.singleton(identifier)));
+		sentInfo.remove(identifier);
 		sendConnectionInfo(identifier);
 		MSPacketHandler.sendToPlayer(createLandChainPacket(), player);
 	}
@@ -149,31 +169,109 @@ public final class InfoTracker
 		MSPacketHandler.sendToAll(createLandChainPacket());
 	}
 	
-	void sendInfoToAll()
+	/**
+	 * Marks info about the player as changed, so that it is sent to anyone watching the player on the next call to {@link #sendChangedInfo()}.
+	 */
+	void markDirty(PlayerIdentifier player)
+	{
+		if(player != null && player != IdentifierHandler.NULL_IDENTIFIER)
+			dirtyPlayers.add(player);
+	}
+	
+	void markServerListDirty()
+	{
+		serverListDirty = true;
+	}
+	
+	void markSessionsDirty()
+	{
+		sessionsDirty = true;
+	}
+	
+	/**
+	 * Sends info about players marked as dirty to those watching them.
+	 * If the list of open servers may have changed, info about all watched players is regenerated,
+	 * but is only sent to those who haven't already received the same info.
+	 */
+	void sendChangedInfo()
 	{
-		for(PlayerIdentifier i : infoToSend.keySet())
-			sendConnectionInfo(i);
+		boolean updateAll = serverListDirty || sessionsDirty && !skaianet.openedServers.isEmpty();
+		serverListDirty = sessionsDirty = false;
+		if(!updateAll && dirtyPlayers.isEmpty())
+			return;
+		
+		Map<PlayerIdentifier, EncodedInfo> generatedInfo = new HashMap<>();
+		for(Map.Entry<PlayerIdentifier, Set<PlayerIdentifier>> entry : infoToSend.entrySet())
+		{
+			ServerPlayerEntity playerMP = entry.getKey().getPlayer(skaianet.mcServer);
+			if(playerMP == null)
+				continue;
+			Map<PlayerIdentifier, byte[]> sentBytes = sentInfo.computeIfAbsent(entry.getKey(), player -> new HashMap<>());
+			boolean sentAny = false;
+			for(PlayerIdentifier i : entry.getValue())
+			{
+				if(i != null && (updateAll || dirtyPlayers.contains(i)))
+				{
+					EncodedInfo info = generatedInfo.computeIfAbsent(i, this::generateEncodedInfo);
+					byte[] previousBytes = sentBytes.put(i, info.bytes);
+					if(!Arrays.equals(previousBytes, info.bytes))
+					{
+						MSPacketHandler.sendToPlayer(info.packet, playerMP);
+						sentAny = true;
+					}
+				}
+			}
+			if(sentAny)
+				triggerConnectionCriteria(entry.getKey(), playerMP);
+		}
+		dirtyPlayers.clear();
 	}
 	
+	/**
+	 * Sends all info that the player is watching, regardless of whether it has changed.
+	 */
 	void sendConnectionInfo(PlayerIdentifier player)
 	{
 		Set<PlayerIdentifier> iden = infoToSend.get(player);
 		ServerPlayerEntity playerMP = player.getPlayer(skaianet.mcServer);
 		if(iden == null || playerMP == null)//If the player disconnected
 			return;
-		for(SburbConnection c : skaianet.connections)
-			if(c.isActive() && (c.getClientIdentifier().equals(player) || c.getServerIdentifier().equals(player)))
-			{
-				MSCriteriaTriggers.SBURB_CONNECTION.trigger(playerMP);
-				break;
-			}
+		triggerConnectionCriteria(player, playerMP);
+		Map<PlayerIdentifier, byte[]> sentBytes = sentInfo.computeIfAbsent(player, player1 -> new HashMap<>());
 		for(PlayerIdentifier i : iden)
 		{
 			if(i != null)
 			{
-				SkaianetInfoPacket packet = generateClientInfoPacket(i);
-				MSPacketHandler.sendToPlayer(packet, playerMP);
+				EncodedInfo info = generateEncodedInfo(i);
+				sentBytes.put(i, info.bytes);
+				MSPacketHandler.sendToPlayer(info.packet, playerMP);
+			}
+		}
+	}
+	
+	private void triggerConnectionCriteria(PlayerIdentifier player, ServerPlayerEntity playerMP)
+	{
+		for(SburbConnection c : skaianet.connections.getConnectionsWith(player))
+			if(c.isActive())
+			{
+				MSCriteriaTriggers.SBURB_CONNECTION.trigger(playerMP);
+				break;
 			}
+	}
+	
+	private EncodedInfo generateEncodedInfo(PlayerIdentifier player)
+	{
+		SkaianetInfoPacket packet = generateClientInfoPacket(player);
+		PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+		try
+		{
+			packet.encode(buffer);
+			byte[] bytes = new byte[buffer.readableBytes()];
+			buffer.readBytes(bytes);
+			return new EncodedInfo(packet, bytes);
+		} finally
+		{
+			buffer.release();
 		}
 	}
 	
@@ -184,10 +282,7 @@ public final class InfoTracker
 		
 		Map<Integer, String> serverMap = skaianet.sessionHandler.getServerList(player);
 		
-		List<SburbConnection> list = new ArrayList<>();
-		for(SburbConnection c : skaianet.connections)
-			if(c.getClientIdentifier().equals(player) || c.getServerIdentifier().equals(player))
-				list.add(c);
+		List<SburbConnection> list = skaianet.connections.getConnectionsWith(player);
 		
 		return SkaianetInfoPacket.update(player.getId(), clientResuming, serverResuming, serverMap, list);
 	}
@@ -196,11 +291,15 @@ public final class InfoTracker
 	{
 		Iterator<PlayerIdentifier> iter0 = infoToSend.keySet().iterator();
 		while(iter0.hasNext())
-			if(iter0.next().getPlayer(skaianet.mcServer) == null)
+		{
+			PlayerIdentifier player = iter0.next();
+			if(player.getPlayer(skaianet.mcServer) == null)
 			{
 				Debug.warn("[SKAIANET] Player disconnected, removing data.");
 				iter0.remove();
+				sentInfo.remove(player);
 			}
+		}
 		
 		if(MinestuckConfig.privateComputers.get())
 		{
@@ -211,7 +310,22 @@ public final class InfoTracker
 					continue;
 				
 				entry.getValue().removeIf(identifier -> !identifier.equals(entry.getKey()));
+				Map<PlayerIdentifier, byte[]> sentBytes = sentInfo.get(entry.getKey());
+				if(sentBytes != null)
+					sentBytes.keySet().retainAll(entry.getValue());
 			}
 		}
 	}
+	
+	private static class EncodedInfo
+	{
+		private final SkaianetInfoPacket packet;
+		private final byte[] bytes;
+		
+		private EncodedInfo(SkaianetInfoPacket packet, byte[] bytes)
+		{
+			this.packet = packet;
+			this.bytes = bytes;
+		}
+	}
 }
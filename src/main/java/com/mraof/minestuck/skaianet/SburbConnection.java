@@ -145,16 +145,20 @@ public final class SburbConnection
 	{
 		Objects.requireNonNull(client);
 		Objects.requireNonNull(server);
+		GlobalPos oldServerComputer = serverComputer;
 		clientComputer = client;
 		serverComputer = server;
 		isActive = true;
+		handler.connections.onComputersChanged(this, oldServerComputer);
 	}
 	
 	void close()
 	{
+		GlobalPos oldServerComputer = serverComputer;
 		clientComputer = null;
 		serverComputer = null;
 		isActive = false;
+		handler.connections.onComputersChanged(this, oldServerComputer);
 	}
 	
 	public PlayerIdentifier getClientIdentifier()
@@ -174,14 +178,17 @@ public final class SburbConnection
 	
 	void removeServerPlayer()
 	{
+		PlayerIdentifier oldServer = serverIdentifier;
 		serverIdentifier = IdentifierHandler.NULL_IDENTIFIER;
+		handler.connections.onServerPlayerChanged(this, oldServer);
 	}
 	
 	void setNewServerPlayer(PlayerIdentifier identifier)
 	{
 		if(hasServerPlayer())
 			throw new IllegalStateException("Connection already has server player");
-		else serverIdentifier = identifier;
+		serverIdentifier = identifier;
+		handler.connections.onServerPlayerChanged(this, IdentifierHandler.NULL_IDENTIFIER);
 	}
 	
 	public GlobalPos getClientComputer()
@@ -212,6 +219,7 @@ public final class SburbConnection
 		if(!isMain)
 		{
 			isMain = true;
+			handler.connections.onConnectionChanged(this);
 		}
 	}
 	
@@ -258,6 +266,7 @@ public final class SburbConnection
 		if(hasEntered)
 			throw new IllegalStateException("Can't have entered twice");
 		hasEntered = true;
+		handler.connections.onConnectionChanged(this);
 	}
 	@Deprecated
 	public boolean hasGivenItem(String item) { return givenItemList.contains(item); }
@@ -2,6 +2,7 @@ package com.mraof.minestuck.skaianet;
 
 import com.mraof.minestuck.MinestuckConfig;
 import com.mraof.minestuck.advancements.MSCriteriaTriggers;
+import com.mraof.minestuck.computer.editmode.DeployList;
 import com.mraof.minestuck.entry.EntryProcess;
 import com.mraof.minestuck.item.MSItems;
 import com.mraof.minestuck.item.crafting.alchemy.GristType;
@@ -538,6 +539,7 @@ public final class SburbHandler
 		c.setHasEntered();
 		
 		SessionHandler.get(server).getPlayerSession(c.getClientIdentifier()).checkIfCompleted(SessionHandler.get(server).singleSession);
+		DeployList.onConditionsUpdated(server);	//Entry changes the deploy list tier for the whole session
 		
 		ServerPlayerEntity player = c.getClientIdentifier().getPlayer(server);
 		if(player != null)
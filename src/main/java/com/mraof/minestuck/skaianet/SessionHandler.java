@@ -145,6 +145,7 @@ public final class SessionHandler
 		this.sessions.addAll(sessions);
 		if(session.connections.isEmpty() && !session.isCustom())
 			this.sessions.remove(session);
+		skaianetHandler.infoTracker.markSessionsDirty();
 	}
 	
 	private void onConnectionChainBroken(Session session)
@@ -152,7 +153,10 @@ public final class SessionHandler
 		if(singleSession)
 			return;
 		if(session.connections.isEmpty() && !session.isCustom())
+		{
 			sessions.remove(session);
+			skaianetHandler.infoTracker.markSessionsDirty();
+		}
 		else split(session);
 	}
 	
@@ -220,6 +224,7 @@ public final class SessionHandler
 			}
 			if(s.connections.size() == 0 && !s.isCustom())
 				sessions.remove(s);
+			skaianetHandler.infoTracker.markSessionsDirty();
 		}
 	}
 	
@@ -306,6 +311,7 @@ public final class SessionHandler
 		}
 		
 		onConnectionChainBroken(session);
+		skaianetHandler.infoTracker.markSessionsDirty();
 		
 		skaianetHandler.updateAll();
 		if(updateLandChain)
@@ -325,6 +331,7 @@ public final class SessionHandler
 			sessions.add(session);
 			if(session.isCustom())
 				sessionsByName.put(session.name, session);
+			skaianetHandler.infoTracker.markSessionsDirty();
 		}
 	}
 	
@@ -337,6 +344,7 @@ public final class SessionHandler
 		sessions.add(result);
 		if(result.isCustom())
 			sessionsByName.put(result.name, result);
+		skaianetHandler.infoTracker.markSessionsDirty();
 	}
 	
 	public void createDebugLandsChain(ServerPlayerEntity player, List<LandTypePair> landTypes, CommandSource source) throws CommandSyntaxException
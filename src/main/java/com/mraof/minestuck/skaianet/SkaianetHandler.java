@@ -24,6 +24,7 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.GlobalPos;
 import net.minecraft.world.World;
 import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants;
@@ -53,10 +54,15 @@ public final class SkaianetHandler
 	Map<PlayerIdentifier, GlobalPos> openedServers = new HashMap<>();
 	private final Map<PlayerIdentifier, GlobalPos> resumingClients = new HashMap<>();
 	private final Map<PlayerIdentifier, GlobalPos> resumingServers = new HashMap<>();
-	List<SburbConnection> connections = new ArrayList<>();
+	final InfoTracker infoTracker = new InfoTracker(this);
+	final ConnectionRegistry connections = new ConnectionRegistry(infoTracker);
 	private final List<GlobalPos> movingComputers = new ArrayList<>();
+	/**
+	 * Computer positions that were skipped by {@link #checkData()} because they weren't loaded.
+	 */
+	private final Set<GlobalPos> uncheckedComputers = new HashSet<>();
+	private boolean uncheckedComputerLoaded;
 	final SessionHandler sessionHandler = new SessionHandler(this);
-	final InfoTracker infoTracker = new InfoTracker(this);
 	/**
 	 * Changes to this map must also be done to {@link MSDimensionTypes#LANDS#dimToLandAspects}
 	 */
@@ -73,34 +79,25 @@ public final class SkaianetHandler
 	 */
 	public SburbConnection getActiveConnection(PlayerIdentifier client)
 	{
-		for(SburbConnection c : connections)
-			if(c.isActive() && c.getClientIdentifier().equals(client))
-				return c;
-		return null;
+		return connections.getActiveConnection(client);
 	}
 	
 	@Nullable
 	public PlayerIdentifier getAssociatedPartner(PlayerIdentifier player, boolean isClient)
 	{
-		for(SburbConnection c : connections)
-			if(c.isMain())
-				if(isClient && c.getClientIdentifier().equals(player))
-					return c.hasServerPlayer() ? c.getServerIdentifier() : null;
-				else if(!isClient && c.getServerIdentifier().equals(player))
-					return c.getClientIdentifier();
-		return null;
+		SburbConnection c = connections.getMainConnection(player, isClient);
+		if(c == null)
+			return null;
+		else if(isClient)
+			return c.hasServerPlayer() ? c.getServerIdentifier() : null;
+		else return c.getClientIdentifier();
 	}
 	
 	public SburbConnection getMainConnection(PlayerIdentifier player, boolean isClient)
 	{
 		if(player == null || player.equals(IdentifierHandler.NULL_IDENTIFIER))
 			return null;
-		for(SburbConnection c : connections)
-			if(c.isMain())
-				if(isClient ? (c.getClientIdentifier().equals(player))
-						: c.getServerIdentifier().equals(player))
-					return c;
-		return null;
+		return connections.getMainConnection(player, isClient);
 	}
 	
 	public boolean giveItems(PlayerIdentifier player)
@@ -111,8 +108,7 @@ public final class SkaianetHandler
 		{
 			c.setIsMain();
 			SburbHandler.onFirstItemGiven(c);
-			infoTracker.sendConnectionInfo(c.getClientIdentifier());
-			infoTracker.sendConnectionInfo(c.getServerIdentifier());
+			infoTracker.sendChangedInfo();
 			return true;
 		}
 		return false;
@@ -134,6 +130,8 @@ public final class SkaianetHandler
 		if(success)
 		{
 			te.markBlockForUpdate();
+			infoTracker.markDirty(player);
+			infoTracker.markDirty(otherPlayer);
 			updateAll();
 		}
 	}
@@ -174,6 +172,7 @@ public final class SkaianetHandler
 			{
 				te.getData(1).putBoolean("isOpen", true);
 				openedServers.put(player, computerPos);
+				infoTracker.markServerListDirty();
 			}
 		}
 		else if(otherPlayer.equals(getAssociatedPartner(player, false)))	//Wants to resume
@@ -211,6 +210,7 @@ public final class SkaianetHandler
 				if(movingComputers.contains(openedServers.get(player)))
 					return;
 				ComputerTileEntity te = getComputer(mcServer, openedServers.remove(player));
+				infoTracker.markServerListDirty();
 				if(te != null)
 				{
 					te.getData(1).putBoolean("isOpen", false);
@@ -272,11 +272,15 @@ public final class SkaianetHandler
 				}
 			}
 		}
+		infoTracker.markDirty(player);
+		infoTracker.markDirty(otherPlayer);
 		updateAll();
 	}
 	
 	private void connectTo(PlayerIdentifier player, GlobalPos computer, boolean isClient, PlayerIdentifier otherPlayer, Map<PlayerIdentifier, GlobalPos> map)
 	{
+		if(map == openedServers)
+			infoTracker.markServerListDirty();
 		ComputerTileEntity c1 = getComputer(mcServer, computer), c2 = getComputer(mcServer, map.get(otherPlayer));
 		if(c2 == null)
 		{
@@ -431,7 +435,7 @@ public final class SkaianetHandler
 	void updateAll()
 	{
 		checkData();
-		infoTracker.sendInfoToAll();
+		infoTracker.sendChangedInfo();
 	}
 	
 	private void checkData()
@@ -439,6 +443,9 @@ public final class SkaianetHandler
 		if(!MinestuckConfig.skaianetCheck.get())
 			return;
 		
+		uncheckedComputers.clear();
+		uncheckedComputerLoaded = false;
+		
 		@SuppressWarnings("unchecked")
 		Iterator<Entry<PlayerIdentifier, GlobalPos>>[] iter1 = new Iterator[]{openedServers.entrySet().iterator(),resumingClients.entrySet().iterator(),resumingServers.entrySet().iterator()};
 		
@@ -446,13 +453,18 @@ public final class SkaianetHandler
 			while(i.hasNext())
 			{
 				Entry<PlayerIdentifier, GlobalPos> data = i.next();
-				ComputerTileEntity computer = getComputer(mcServer, data.getValue());
+				if(data.getValue().getDimension() != DimensionType.THE_NETHER && !isComputerLoaded(data.getValue()))
+					continue;
+				ComputerTileEntity computer = getLoadedComputer(data.getValue());
 				if(computer == null || data.getValue().getDimension() == DimensionType.THE_NETHER || !computer.owner.equals(data.getKey())
 						|| !(i == iter1[1] && computer.getData(0).getBoolean("isResuming")
 								|| i != iter1[1] && computer.getData(1).getBoolean("isOpen")))
 				{
 					Debug.warn("[SKAIANET] Invalid computer in waiting list!");
 					i.remove();
+					infoTracker.markDirty(data.getKey());
+					if(i == iter1[0])
+						infoTracker.markServerListDirty();
 				}
 			}
 		
@@ -468,7 +480,10 @@ public final class SkaianetHandler
 			}
 			if(c.isActive())
 			{
-				ComputerTileEntity cc = getComputer(mcServer, c.getClientComputer()), sc = getComputer(mcServer, c.getServerComputer());
+				if(c.getClientComputer().getDimension() != DimensionType.THE_NETHER && c.getServerComputer().getDimension() != DimensionType.THE_NETHER
+						&& (!isComputerLoaded(c.getClientComputer()) | !isComputerLoaded(c.getServerComputer())))	//Not short-circuiting, so that both positions are remembered if unloaded
+					continue;
+				ComputerTileEntity cc = getLoadedComputer(c.getClientComputer()), sc = getLoadedComputer(c.getServerComputer());
 				if(cc == null || sc == null || c.getClientComputer().getDimension() == DimensionType.THE_NETHER || c.getServerComputer().getDimension() == DimensionType.THE_NETHER || !c.getClientIdentifier().equals(cc.owner)
 						|| !c.getServerIdentifier().equals(sc.owner) || !cc.getData(0).getBoolean("connectedToServer"))
 				{
@@ -499,12 +514,55 @@ public final class SkaianetHandler
 		infoTracker.checkData();
 	}
 	
+	/**
+	 * Checks if the chunk at the given position is loaded, without loading the world or the chunk.
+	 * If it isn't loaded, the position is remembered so that data is checked again once a computer at that position has loaded.
+	 */
+	private boolean isComputerLoaded(GlobalPos location)
+	{
+		ServerWorld world = DimensionManager.getWorld(mcServer, location.getDimension(), false, false);
+		if(world != null && world.isBlockLoaded(location.getPos()))
+			return true;
+		uncheckedComputers.add(location);
+		return false;
+	}
+	
+	/**
+	 * Gets the computer at a position which is known to be loaded.
+	 * Falls back on a world lookup in case the chunk has loaded, but the computer hasn't been added to the world yet.
+	 */
+	private ComputerTileEntity getLoadedComputer(GlobalPos location)
+	{
+		ComputerTileEntity computer = ComputerTileEntity.getLoaded(location);
+		if(computer == null)
+			computer = getComputer(mcServer, location);
+		return computer;
+	}
+	
+	/**
+	 * Called when a computer has loaded on the server side.
+	 */
+	public void onComputerLoaded(GlobalPos location)
+	{
+		if(uncheckedComputers.contains(location))
+			uncheckedComputerLoaded = true;
+	}
+	
+	/**
+	 * Checks data again if a computer that was skipped by an earlier check has loaded since then. Called at the end of each server tick.
+	 */
+	public void checkLoadedComputers()
+	{
+		if(uncheckedComputerLoaded)
+		{
+			uncheckedComputerLoaded = false;
+			updateAll();
+		}
+	}
+	
 	public SburbConnection getConnection(PlayerIdentifier client, PlayerIdentifier server)
 	{
-		for(SburbConnection c : connections)
-			if(c.getClientIdentifier().equals(client) && c.getServerIdentifier().equals(server))
-				return c;
-		return null;
+		return connections.getConnection(client, server);
 	}
 	
 	boolean hasResumingClient(PlayerIdentifier identifier)
@@ -539,7 +597,8 @@ public final class SkaianetHandler
 	
 	public SburbConnection getServerConnection(ComputerTileEntity computer)
 	{
-		return connections.stream().filter(c -> c.isServer(computer)).findAny().orElse(null);
+		SburbConnection c = connections.getByServerComputer(GlobalPos.of(computer.getWorld().getDimension().getType(), computer.getPos()));
+		return c != null && c.isServer(computer) ? c : null;
 	}
 	
 	/**
@@ -1,17 +1,19 @@
 package com.mraof.minestuck.skaianet;
 
+import com.google.common.collect.ImmutableList;
 import com.mraof.minestuck.MinestuckConfig;
 import com.mraof.minestuck.entity.MSEntityTypes;
 import com.mraof.minestuck.entity.underling.UnderlingEntity;
 import com.mraof.minestuck.item.crafting.alchemy.GristHelper;
 import com.mraof.minestuck.item.crafting.alchemy.GristType;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A facade for overlooking features surrounding underlings that does or might make use of properties connected to the land or session that the underling is spawned in.
@@ -25,22 +27,83 @@ public final class UnderlingController
 		return GristHelper.getPrimaryGrist();
 	}
 	
-	private static List<Biome.SpawnListEntry>[] difficultyList = new List[31];
+	public static final int MAX_DIFFICULTY = 30;
 	
-	public static List<Biome.SpawnListEntry> getUnderlingList(BlockPos pos, World world)
+	private static final List<SpawnEntryProvider> SPAWN_ENTRY_PROVIDERS = new CopyOnWriteArrayList<>();
+	private static volatile List<List<Biome.SpawnListEntry>> spawnTable;	//Indexed by difficulty. Rebuilt on first use after being invalidated
+	
+	static
 	{
+		registerSpawnEntries(UnderlingController::addDefaultUnderlings);
+	}
+	
+	/**
+	 * Adds a provider of underling spawn entries, which will be part of the spawn table from when it is next built.
+	 * Since the spawn table is built ahead of time, providers don't add any cost to spawn attempts.
+	 */
+	public static void registerSpawnEntries(SpawnEntryProvider provider)
+	{
+		SPAWN_ENTRY_PROVIDERS.add(Objects.requireNonNull(provider));
+		invalidateSpawnTable();
+	}
+	
+	/**
+	 * Makes the spawn table be rebuilt on next use. Should be called when anything that the spawn entries depend on has changed, such as the config.
+	 */
+	public static void invalidateSpawnTable()
+	{
+		spawnTable = null;
+	}
+	
+	/**
+	 * @return the underling spawn entries for each difficulty from 0 to {@link #MAX_DIFFICULTY}.
+	 * The same instance is returned until the table is invalidated, which can be used to tell when anything based on the table needs to be rebuilt.
+	 */
+	public static List<List<Biome.SpawnListEntry>> getSpawnTable()
+	{
+		List<List<Biome.SpawnListEntry>> table = spawnTable;
+		if(table == null)
+			spawnTable = table = buildSpawnTable(SPAWN_ENTRY_PROVIDERS);
+		return table;
+	}
+	
+	static List<List<Biome.SpawnListEntry>> buildSpawnTable(List<SpawnEntryProvider> providers)
+	{
+		ImmutableList.Builder<List<Biome.SpawnListEntry>> builder = ImmutableList.builder();
+		for(int difficulty = 0; difficulty <= MAX_DIFFICULTY; difficulty++)
+		{
+			List<Biome.SpawnListEntry> list = new ArrayList<>();
+			for(SpawnEntryProvider provider : providers)
+				provider.addEntries(difficulty, list);
+			builder.add(ImmutableList.copyOf(list));
+		}
+		return builder.build();
+	}
+	
+	/**
+	 * @return the difficulty of underling spawns at the position, based on the distance from spawn
+	 */
+	public static int getDifficulty(BlockPos pos, World world)
+	{
+		return getDifficulty(pos, world.getSpawnPoint());
+	}
+	
+	static int getDifficulty(BlockPos pos, BlockPos spawn)
+	{
+		//Same distance between chunk coordinates as Vec3i.distanceSq(Vec3i) gave, which measures from the block center on all axes
+		double x = (pos.getX() >> 4) - (spawn.getX() >> 4) + 0.5, z = (pos.getZ() >> 4) - (spawn.getZ() >> 4) + 0.5;
+		int distance = (int) Math.round(Math.sqrt(x*x + 0.25 + z*z));
 		
-		BlockPos spawn = world.getSpawnPoint();
-		
-		int difficulty = (int) Math.round(Math.sqrt(new Vec3i(pos.getX() >> 4, 0, pos.getZ() >> 4).distanceSq(new Vec3i(spawn.getX() >> 4, 0, spawn.getZ() >> 4))));
-		
-		difficulty = Math.min(30, difficulty/3);
-		
-		if(difficultyList[difficulty] != null)
-			return difficultyList[difficulty];
-		
-		ArrayList<Biome.SpawnListEntry> list = new ArrayList<Biome.SpawnListEntry>();
-		
+		return Math.min(MAX_DIFFICULTY, distance/3);
+	}
+	
+	public static List<Biome.SpawnListEntry> getUnderlingList(BlockPos pos, World world)
+	{
+		return getSpawnTable().get(getDifficulty(pos, world));
+	}
+	
+	private static void addDefaultUnderlings(int difficulty, List<Biome.SpawnListEntry> list)
+	{
 		int impWeight, ogreWeight = 0, basiliskWeight = 0, lichWeight = 0, giclopsWeight = 0;
 		
 		if(difficulty < 8)
@@ -77,10 +140,14 @@ public final class UnderlingController
 			list.add(new Biome.SpawnListEntry(MSEntityTypes.LICH, lichWeight, 1, Math.max(1, lichWeight/2)));
 		if(giclopsWeight > 0 && !MinestuckConfig.disableGiclops.get())
 			list.add(new Biome.SpawnListEntry(MSEntityTypes.GICLOPS, giclopsWeight, 1, Math.max(1, giclopsWeight/2)));
-		//TODO Add hook for addons to add more underlings
-		
-		difficultyList[difficulty] = list;
-		
-		return list;
 	}
-}
\ No newline at end of file
+	
+	@FunctionalInterface
+	public interface SpawnEntryProvider
+	{
+		/**
+		 * Adds the spawn entries for the given difficulty, from 0 to {@link #MAX_DIFFICULTY}.
+		 */
+		void addEntries(int difficulty, List<Biome.SpawnListEntry> list);
+	}
+}
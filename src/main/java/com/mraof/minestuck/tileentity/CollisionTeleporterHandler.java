@@ -0,0 +1,81 @@
+package com.mraof.minestuck.tileentity;
+
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+
+import java.util.*;
+
+/**
+ * Keeps track of the {@link OnCollisionTeleporterTileEntity} that have had an entity collision during the current tick,
+ * so that only those need to look for entities to teleport at the end of the world tick, instead of every teleporter ticking.
+ * Also counts how many transportalizers were handled each server tick, which can be checked with the tpzstats command.
+ */
+public final class CollisionTeleporterHandler
+{
+	private static final Map<World, Set<OnCollisionTeleporterTileEntity<?>>> PENDING = new WeakHashMap<>();
+	private static final int SAMPLE_TICKS = 100;
+	
+	private static final int[] transportalizerSamples = new int[SAMPLE_TICKS];
+	private static int sampleIndex;
+	private static int transportalizersThisTick;
+	
+	static void add(OnCollisionTeleporterTileEntity<?> teleporter)
+	{
+		PENDING.computeIfAbsent(teleporter.getWorld(), world -> new LinkedHashSet<>()).add(teleporter);
+	}
+	
+	/**
+	 * Handles the collisions of teleporters in the world. Called at the end of each world tick.
+	 */
+	public static void handleCollisions(ServerWorld world)
+	{
+		Set<OnCollisionTeleporterTileEntity<?>> teleporters = PENDING.remove(world);
+		if(teleporters == null)
+			return;
+		
+		world.getProfiler().startSection("minestuckCollisionTeleporters");
+		for(OnCollisionTeleporterTileEntity<?> teleporter : teleporters)
+		{
+			if(teleporter instanceof TransportalizerTileEntity)
+				transportalizersThisTick++;
+			teleporter.handleCollisions();
+		}
+		world.getProfiler().endSection();
+	}
+	
+	/**
+	 * Records the number of transportalizers handled during the tick. Called at the end of each server tick.
+	 */
+	public static void onServerTickEnd()
+	{
+		transportalizerSamples[sampleIndex] = transportalizersThisTick;
+		sampleIndex = (sampleIndex + 1) % SAMPLE_TICKS;
+		transportalizersThisTick = 0;
+	}
+	
+	/**
+	 * @return the number of transportalizers that teleported or checked for entities to teleport during the last server tick
+	 */
+	public static int getLastTransportalizerCount()
+	{
+		return transportalizerSamples[(sampleIndex + SAMPLE_TICKS - 1) % SAMPLE_TICKS];
+	}
+	
+	/**
+	 * @return the average number of transportalizers handled per server tick over the last 100 ticks
+	 */
+	public static double getAverageTransportalizerCount()
+	{
+		int sum = 0;
+		for(int count : transportalizerSamples)
+			sum += count;
+		return sum / (double) SAMPLE_TICKS;
+	}
+	
+	public static void clear()
+	{
+		PENDING.clear();
+		Arrays.fill(transportalizerSamples, 0);
+		transportalizersThisTick = 0;
+	}
+}
@@ -11,8 +11,11 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SUpdateTileEntityPacket;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.GlobalPos;
+import net.minecraft.world.IWorld;
 
 import javax.annotation.Nullable;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.Map;
@@ -20,6 +23,11 @@ import java.util.Map.Entry;
 
 public class ComputerTileEntity extends TileEntity
 {
+	/**
+	 * Server-side computers that are currently loaded, by position. Lets skaianet check computers without loading any worlds or chunks.
+	 */
+	private static final Map<GlobalPos, ComputerTileEntity> LOADED_COMPUTERS = new HashMap<>();
+	
 	public ComputerTileEntity()
 	{
 		super(MSTileEntityTypes.COMPUTER);
@@ -75,6 +83,69 @@ public class ComputerTileEntity extends TileEntity
 			gui.updateGui();
 	}
 	
+	@Override
+	public void onLoad()
+	{
+		super.onLoad();
+		if(world != null && !world.isRemote)
+		{
+			GlobalPos location = getLocation();
+			LOADED_COMPUTERS.put(location, this);
+			SkaianetHandler.get(world).onComputerLoaded(location);
+		}
+	}
+	
+	@Override
+	public void remove()
+	{
+		super.remove();
+		untrack();
+	}
+	
+	@Override
+	public void onChunkUnloaded()
+	{
+		super.onChunkUnloaded();
+		untrack();
+	}
+	
+	private void untrack()
+	{
+		if(world != null && !world.isRemote)
+			LOADED_COMPUTERS.remove(getLocation(), this);
+	}
+	
+	/**
+	 * @return The loaded server-side computer at the given position, or null if there is no loaded computer there.
+	 */
+	@Nullable
+	public static ComputerTileEntity getLoaded(GlobalPos location)
+	{
+		return LOADED_COMPUTERS.get(location);
+	}
+	
+	/**
+	 * Forgets all loaded computers. Should only be called on a ServerStopped event by minestuck itself.
+	 */
+	public static void clearLoaded()
+	{
+		LOADED_COMPUTERS.clear();
+	}
+	
+	/**
+	 * Forgets the loaded computers of a world that is being unloaded.
+	 * Chunks aren't unloaded one by one when a whole world is unloaded, so the computers in them would otherwise be kept, along with their world.
+	 */
+	public static void clearLoaded(IWorld world)
+	{
+		LOADED_COMPUTERS.values().removeIf(computer -> computer.world == world);
+	}
+	
+	public GlobalPos getLocation()
+	{
+		return GlobalPos.of(world.getDimension().getType(), pos);
+	}
+	
 	@Override
 	public CompoundNBT write(CompoundNBT compound)
 	{
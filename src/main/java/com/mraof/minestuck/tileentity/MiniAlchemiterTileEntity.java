@@ -6,6 +6,7 @@ import com.mraof.minestuck.inventory.MiniAlchemiterContainer;
 import com.mraof.minestuck.item.crafting.alchemy.*;
 import com.mraof.minestuck.player.IdentifierHandler;
 import com.mraof.minestuck.player.PlayerIdentifier;
+import com.mraof.minestuck.world.storage.PlayerSavedData;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.container.Container;
@@ -16,10 +17,12 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.IntReferenceHolder;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TranslationTextComponent;
+import net.minecraft.world.IWorld;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.registries.ForgeRegistry;
 
 import javax.annotation.Nullable;
+import java.util.*;
 
 public class MiniAlchemiterTileEntity extends MachineProcessTileEntity implements INamedContainerProvider, IOwnable, GristWildcardHolder
 {
@@ -45,9 +48,20 @@ public class MiniAlchemiterTileEntity extends MachineProcessTileEntity implement
 		}
 	};
 	
-	private int ticks_since_update = 0;
+	/**
+	 * Loaded mini-alchemiters by owner, used to update comparator output when the grist cache of the owner changes. Server-side only.
+	 */
+	private static final Map<PlayerIdentifier, Set<MiniAlchemiterTileEntity>> LOADED_BY_OWNER = new HashMap<>();
+	
 	private PlayerIdentifier owner;
 	private GristType wildcardGrist = GristTypes.BUILD;
+	private int comparatorLevel = -1;	//-1 if it needs to be recalculated
+	private GristCostRecipeIndex comparatorIndex;	//The grist cost recipes that comparatorLevel was calculated with
+	
+	private ItemStack cachedCostItem = ItemStack.EMPTY;
+	private GristType cachedCostWildcard;
+	private GristCostRecipeIndex cachedCostIndex;
+	private GristSet cachedCost;
 	
 	public MiniAlchemiterTileEntity()
 	{
@@ -87,7 +101,7 @@ public class MiniAlchemiterTileEntity extends MachineProcessTileEntity implement
 			{
 				return false;
 			}
-			GristSet cost = GristCostRecipe.findCostForItem(newItem, wildcardGrist, false, world);
+			GristSet cost = getCost(newItem);
 			
 			return GristHelper.canAfford(world, owner, cost);
 		}
@@ -105,7 +119,7 @@ public class MiniAlchemiterTileEntity extends MachineProcessTileEntity implement
 		if (newItem.isEmpty())
 			newItem = new ItemStack(MSBlocks.GENERIC_OBJECT);
 		
-		GristSet cost = GristCostRecipe.findCostForItem(newItem, wildcardGrist, false, world);
+		GristSet cost = getCost(newItem);
 		
 		GristHelper.decrease(world, owner, cost);
 		
@@ -121,24 +135,124 @@ public class MiniAlchemiterTileEntity extends MachineProcessTileEntity implement
 		{
 			this.inv.get(OUTPUT).grow(1);
 		}
+		markDirty();
+	}
+	
+	/**
+	 * The cost is looked up again only if the item, the wildcard grist or the grist cost recipes have changed since the last lookup.
+	 */
+	private GristSet getCost(ItemStack newItem)
+	{
+		GristCostRecipeIndex index = GristCostRecipeIndex.get(world.getRecipeManager());
+		if(cachedCostIndex != index || cachedCostWildcard != wildcardGrist || !ItemStack.areItemStacksEqual(cachedCostItem, newItem))
+		{
+			cachedCost = GristCostRecipe.findCostForItem(newItem, wildcardGrist, false, world);
+			cachedCostItem = newItem.copy();
+			cachedCostWildcard = wildcardGrist;
+			cachedCostIndex = index;
+		}
+		return cachedCost;
+	}
+	
+	@Override
+	public void onLoad()
+	{
+		super.onLoad();
+		trackOwner();
+	}
+	
+	@Override
+	public void remove()
+	{
+		super.remove();
+		untrackOwner();
 	}
 	
-	// We're going to want to trigger a block update every 20 ticks to have comparators pull data from the Alchemiter.
 	@Override
-	public void tick()
+	public void onChunkUnloaded()
 	{
-		super.tick();
-		if (this.ticks_since_update == 20)
+		super.onChunkUnloaded();
+		untrackOwner();
+	}
+	
+	private void trackOwner()
+	{
+		if(world != null && !world.isRemote && owner != null)
+			LOADED_BY_OWNER.computeIfAbsent(owner, identifier -> new HashSet<>()).add(this);
+	}
+	
+	private void untrackOwner()
+	{
+		if(owner != null)
 		{
-			world.updateComparatorOutputLevel(this.getPos(), this.getBlockState().getBlock());
-			this.ticks_since_update = 0;
+			Set<MiniAlchemiterTileEntity> set = LOADED_BY_OWNER.get(owner);
+			if(set != null)
+			{
+				set.remove(this);
+				if(set.isEmpty())
+					LOADED_BY_OWNER.remove(owner);
+			}
 		}
-		else
+	}
+	
+	/**
+	 * Forgets all loaded mini-alchemiters. Should only be called on a ServerStopped event by minestuck itself.
+	 */
+	public static void clearLoaded()
+	{
+		LOADED_BY_OWNER.clear();
+	}
+	
+	/**
+	 * Forgets the loaded mini-alchemiters of a world that is being unloaded, as their chunks aren't unloaded one by one.
+	 */
+	public static void clearLoaded(IWorld world)
+	{
+		LOADED_BY_OWNER.values().removeIf(set -> {
+			set.removeIf(tileEntity -> tileEntity.world == world);
+			return set.isEmpty();
+		});
+	}
+	
+	/**
+	 * Updates the comparator output of all loaded mini-alchemiters. Called when grist costs have been reloaded, since that may change what they can afford.
+	 */
+	public static void onGristCostsReloaded()
+	{
+		for(Set<MiniAlchemiterTileEntity> set : new ArrayList<>(LOADED_BY_OWNER.values()))
+		{
+			for(MiniAlchemiterTileEntity tileEntity : new ArrayList<>(set))
+				tileEntity.updateComparator();
+		}
+	}
+	
+	/**
+	 * Updates the comparator output of any loaded mini-alchemiters owned by the player. Called when the grist cache of the player has changed.
+	 */
+	public static void onGristCacheChanged(PlayerIdentifier player)
+	{
+		Set<MiniAlchemiterTileEntity> set = LOADED_BY_OWNER.get(player);
+		if(set != null)
 		{
-			this.ticks_since_update++;
+			for(MiniAlchemiterTileEntity tileEntity : new ArrayList<>(set))
+				tileEntity.updateComparator();
 		}
 	}
 	
+	private void updateComparator()
+	{
+		comparatorLevel = -1;
+		if(world != null)
+			world.updateComparatorOutputLevel(this.getPos(), this.getBlockState().getBlock());
+	}
+	
+	@Override
+	public void markDirty()
+	{
+		comparatorLevel = -1;	//Called when the contents change, which in turn updates comparators
+		super.markDirty();
+	}
+	
 	@Override
 	public void read(CompoundNBT compound)
 	{
@@ -147,7 +261,16 @@ public class MiniAlchemiterTileEntity extends MachineProcessTileEntity implement
 		this.wildcardGrist = GristType.read(compound, "gristType");
 		
 		if(IdentifierHandler.hasIdentifier(compound, "owner"))
-			owner = IdentifierHandler.load(compound, "owner");
+		{
+			PlayerIdentifier newOwner = IdentifierHandler.load(compound, "owner");
+			if(!newOwner.equals(owner))
+			{
+				untrackOwner();
+				owner = newOwner;
+				trackOwner();
+			}
+		}
+		comparatorLevel = -1;
 	}
 	
 	@Override
@@ -176,6 +299,17 @@ public class MiniAlchemiterTileEntity extends MachineProcessTileEntity implement
 	}
 	
 	public int comparatorValue()
+	{
+		GristCostRecipeIndex index = GristCostRecipeIndex.get(world.getRecipeManager());
+		if(comparatorLevel == -1 || comparatorIndex != index)
+		{
+			comparatorLevel = calculateComparatorValue();
+			comparatorIndex = index;
+		}
+		return comparatorLevel;
+	}
+	
+	private int calculateComparatorValue()
 	{
 		if (getStackInSlot(INPUT) != null && owner != null)
 		{
@@ -188,26 +322,12 @@ public class MiniAlchemiterTileEntity extends MachineProcessTileEntity implement
 			{
 				return 0;
 			}
-			GristSet cost = GristCostRecipe.findCostForItem(newItem, wildcardGrist, false, world);
-			// We need to run the check 16 times. Don't want to hammer the game with too many of these, so the comparators are only told to update every 20 ticks.
-			// Additionally, we need to check if the item in the slot is empty. Otherwise, it will attempt to check the cost for air, which cannot be alchemized anyway.
+			GristSet cost = getCost(newItem);
+			// We need to check if the item in the slot is empty. Otherwise, it will attempt to check the cost for air, which cannot be alchemized anyway.
 			if (cost != null && !getStackInSlot(0).isEmpty())
 			{
-				GristSet scale_cost;
-				for (int lvl = 1; lvl <= 17; lvl++)
-				{
-					// We went through fifteen item cost checks and could still afford it. No sense in checking more than this.
-					if (lvl == 17)
-					{
-						return 15;
-					}
-					// We need to make a copy to preserve the original grist amounts and avoid scaling values that have already been scaled. Keeps scaling linear as opposed to exponential.
-					scale_cost = cost.copy().scale(lvl);
-					if (!GristHelper.canAfford(world, owner, scale_cost))
-					{
-						return lvl - 1;
-					}
-				}
+				// The signal strength is the number of times the item can be afforded, up to 15
+				return (int) GristHelper.getAffordableCount(PlayerSavedData.getData(owner, world).getGristCache(), cost, 15);
 			}
 		}
 		return 0;
@@ -238,7 +358,10 @@ public class MiniAlchemiterTileEntity extends MachineProcessTileEntity implement
 	@Override
 	public void setOwner(PlayerIdentifier identifier)
 	{
+		untrackOwner();
 		this.owner = identifier;
+		trackOwner();
+		updateComparator();
 	}
 	
 	@Override
@@ -3,7 +3,7 @@ package com.mraof.minestuck.tileentity;
 import com.mraof.minestuck.block.MSBlocks;
 import com.mraof.minestuck.inventory.MiniTotemLatheContainer;
 import com.mraof.minestuck.item.MSItems;
-import com.mraof.minestuck.item.crafting.MSRecipeTypes;
+import com.mraof.minestuck.item.crafting.alchemy.AbstractCombinationRecipe;
 import com.mraof.minestuck.item.crafting.alchemy.AlchemyHelper;
 import com.mraof.minestuck.item.crafting.alchemy.CombinationMode;
 import com.mraof.minestuck.item.crafting.alchemy.ItemCombiner;
@@ -13,7 +13,6 @@ import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.container.Container;
 import net.minecraft.inventory.container.INamedContainerProvider;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TranslationTextComponent;
@@ -90,7 +89,7 @@ public class MiniTotemLatheTileEntity extends MachineProcessTileEntity implement
 			if (!AlchemyHelper.isPunchedCard(inv.get(0)) || !AlchemyHelper.isPunchedCard(inv.get(1)))
 				output = new ItemStack(MSBlocks.GENERIC_OBJECT);
 			else
-				output = world.getRecipeManager().getRecipe(MSRecipeTypes.COMBINATION_TYPE, this, world).map(IRecipe::getRecipeOutput).orElse(ItemStack.EMPTY);
+				output = AbstractCombinationRecipe.findResult(this, world);
 		else
 		{
 			ItemStack input = inv.get(0).isEmpty() ? inv.get(1) : inv.get(0);
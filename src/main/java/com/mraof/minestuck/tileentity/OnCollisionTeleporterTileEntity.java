@@ -1,15 +1,19 @@
 package com.mraof.minestuck.tileentity;
 
 import net.minecraft.entity.Entity;
-import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.world.server.ServerWorld;
 
+import java.util.ArrayList;
 import java.util.List;
 
-public abstract class OnCollisionTeleporterTileEntity<E extends Entity> extends TileEntity implements ITickableTileEntity
+/**
+ * A tile entity that teleports entities that collide with its block.
+ * Instead of ticking, teleporters that have had a collision are handled at the end of the world tick by {@link CollisionTeleporterHandler}.
+ */
+public abstract class OnCollisionTeleporterTileEntity<E extends Entity> extends TileEntity
 {
 	private final Class<E> entityClass;
 	private boolean hasCollision = false;
@@ -29,33 +33,46 @@ public abstract class OnCollisionTeleporterTileEntity<E extends Entity> extends
 	
 	protected abstract void teleport(E entity);
 	
+	/**
+	 * Teleports all entities that are ready to be teleported in the same tick.
+	 * Teleports each entity separately by default, but can be overridden to share work between them.
+	 */
+	protected void teleportAll(List<E> entities)
+	{
+		for(E entity : entities)
+			teleport(entity);
+	}
+	
 	/**
 	 * Should be called on entity collision.
 	 */
 	public void onCollision(E entity)
 	{
-		if(!entity.world.isRemote && canTeleport(entity) && shouldTeleport(entity))
+		if(!hasCollision && !entity.world.isRemote && canTeleport(entity) && shouldTeleport(entity))
 		{
 			hasCollision = true;
+			CollisionTeleporterHandler.add(this);
 		}
 	}
 	
-	@Override
-	public void tick()
+	void handleCollisions()
 	{
-		if(hasCollision && world instanceof ServerWorld)
+		if(hasCollision && !isRemoved() && world instanceof ServerWorld)
 		{
 			AxisAlignedBB boundingBox = getTeleportField();
 			
 			List<E> entities = world.getEntitiesWithinAABB(entityClass, boundingBox, entity -> canTeleport(entity) && shouldTeleport(entity));
+			List<E> toTeleport = new ArrayList<>(entities.size());
 			for(E entity : entities)
 			{
 				if(entity.timeUntilPortal != 0)
 					entity.timeUntilPortal = entity.getPortalCooldown();
-				else teleport(entity);
+				else toTeleport.add(entity);
 			}
-			hasCollision = false;	//TODO is this correct behavior if entity.timeUntilPortal != 0?
+			if(!toTeleport.isEmpty())
+				teleportAll(toTeleport);
 		}
+		hasCollision = false;	//TODO is this correct behavior if entity.timeUntilPortal != 0?
 	}
 	
 	private static boolean canTeleport(Entity entity)
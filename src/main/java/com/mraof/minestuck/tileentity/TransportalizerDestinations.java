@@ -0,0 +1,126 @@
+package com.mraof.minestuck.tileentity;
+
+import com.mraof.minestuck.Minestuck;
+import com.mraof.minestuck.util.Debug;
+import com.mraof.minestuck.world.storage.TransportalizerSavedData;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.GlobalPos;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraft.world.server.TicketType;
+import net.minecraftforge.common.DimensionManager;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the destination chunks of recently used transportalizers loaded with a chunk ticket,
+ * so that using the same transportalizer again doesn't need to load the destination chunk at that moment.
+ * A destination is warmed when it is picked as destination code or when it is teleported to, and is released after a while without use.
+ * Warmed destinations are also checked every so often between uses, so that stale transportalizer codes are removed ahead of time.
+ */
+public final class TransportalizerDestinations
+{
+	private static final TicketType<ChunkPos> TICKET = TicketType.create(Minestuck.MOD_ID + ":transportalizer", Comparator.comparingLong(ChunkPos::asLong));
+	private static final int KEEP_TICKS = 6000;	//Five minutes
+	private static final int CHECK_INTERVAL = 20;
+	
+	private static final Map<GlobalPos, Destination> DESTINATIONS = new LinkedHashMap<>();
+	
+	/**
+	 * Warms the destination if its dimension is loaded. Used when a destination code is set, before the transportalizer is used.
+	 */
+	static void warm(MinecraftServer server, String id, GlobalPos location)
+	{
+		ServerWorld world = DimensionManager.getWorld(server, location.getDimension(), false, false);
+		if(world != null)
+			warm(world, id, location);
+	}
+	
+	/**
+	 * Warms the destination in the given world, or marks it as recently used if it already is warmed.
+	 */
+	static void warm(ServerWorld world, String id, GlobalPos location)
+	{
+		Destination destination = DESTINATIONS.get(location);
+		if(destination == null || !destination.id.equals(id))
+		{
+			if(destination != null)
+				destination.release(world);
+			destination = new Destination(id, location);
+			DESTINATIONS.put(location, destination);
+			world.getChunkProvider().registerTicket(TICKET, destination.chunkPos, 0, destination.chunkPos);
+		}
+		destination.lastUsed = world.getServer().getTickCounter();
+	}
+	
+	/**
+	 * Releases destinations that haven't been used in a while, and checks that the others still have a transportalizer.
+	 * Called at the end of each server tick.
+	 */
+	public static void tick(MinecraftServer server)
+	{
+		int time = server.getTickCounter();
+		if(DESTINATIONS.isEmpty() || time % CHECK_INTERVAL != 0)
+			return;
+		
+		Iterator<Destination> iterator = DESTINATIONS.values().iterator();
+		while(iterator.hasNext())
+		{
+			Destination destination = iterator.next();
+			ServerWorld world = DimensionManager.getWorld(server, destination.location.getDimension(), false, false);
+			if(world == null)
+				iterator.remove();
+			else if(time - destination.lastUsed > KEEP_TICKS || !destination.isValid(world))
+			{
+				destination.release(world);
+				iterator.remove();
+			}
+		}
+	}
+	
+	public static void clear()
+	{
+		DESTINATIONS.clear();
+	}
+	
+	private static class Destination
+	{
+		private final String id;
+		private final GlobalPos location;
+		private final ChunkPos chunkPos;
+		private int lastUsed;
+		
+		private Destination(String id, GlobalPos location)
+		{
+			this.id = id;
+			this.location = location;
+			this.chunkPos = new ChunkPos(location.getPos());
+		}
+		
+		/**
+		 * Only checks the destination if its chunk has been loaded by the ticket, so that this never loads chunks itself.
+		 */
+		private boolean isValid(ServerWorld world)
+		{
+			if(!world.getChunkProvider().chunkExists(chunkPos.x, chunkPos.z))
+				return true;
+			
+			TileEntity tileEntity = world.getTileEntity(location.getPos());
+			if(tileEntity instanceof TransportalizerTileEntity)
+				return id.equals(((TransportalizerTileEntity) tileEntity).getId());
+			
+			Debug.warn("Invalid transportalizer in map: " + id + " at " + location);
+			TransportalizerSavedData.get(world).remove(id, location);
+			return false;
+		}
+		
+		private void release(ServerWorld world)
+		{
+			world.getChunkProvider().releaseTicket(TICKET, chunkPos, 0, chunkPos);
+		}
+	}
+}
@@ -23,6 +23,7 @@ import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.world.server.ServerWorld;
 
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.List;
 
 public class TransportalizerTileEntity extends OnCollisionTeleporterTileEntity<Entity> implements INameable
@@ -33,7 +34,7 @@ public class TransportalizerTileEntity extends OnCollisionTeleporterTileEntity<E
 	public static final String FORBIDDEN = "minestuck.transportalizer.forbidden";
 	public static final String FORBIDDEN_DESTINATION = "minestuck.transportalizer.forbidden_destination";
 	
-	private boolean enabled = true;
+	private Boolean enabled;	//Null until first needed, after which it is kept up to date by neighbor changes
 	private boolean active = true;
 	String id = "";
 	private String destId = "";
@@ -65,23 +66,19 @@ public class TransportalizerTileEntity extends OnCollisionTeleporterTileEntity<E
 		}
 	}
 	
-	@Override
-	public void tick()
+	/**
+	 * Called by the block when a neighbor has changed.
+	 */
+	public void updatePower()
 	{
-		if(world.isRemote)
-			return;
 		// Disable the transportalizer if it's being powered by a redstone signal.
 		// Disabling a transportalizer prevents it from receiving or sending.
 		// Recieving will fail silently. Sending will warn the player.
-		if(world.isBlockPowered(this.getPos()))
-		{
-			if(enabled) { setEnabled(false); }
-		}
-		else {
-			if(!enabled) { setEnabled(true); }
-		}
-		
-		super.tick();
+		boolean enabled = !world.isBlockPowered(this.getPos());
+		if(this.enabled == null)
+			this.enabled = enabled;
+		else if(this.enabled != enabled)
+			setEnabled(enabled);
 	}
 	
 	@Override
@@ -92,18 +89,26 @@ public class TransportalizerTileEntity extends OnCollisionTeleporterTileEntity<E
 	
 	@Override
 	protected void teleport(Entity entity)
+	{
+		teleportAll(Collections.singletonList(entity));
+	}
+	
+	/**
+	 * Looks up and checks the destination once for all entities that are teleported in the same tick.
+	 */
+	@Override
+	protected void teleportAll(List<Entity> entities)
 	{
 		GlobalPos location = TransportalizerSavedData.get(world).get(this.destId);
-		if(!enabled)
+		if(!getEnabled())
 		{
-			entity.timeUntilPortal = entity.getPortalCooldown();
-			if(entity instanceof ServerPlayerEntity)
-				entity.sendMessage(new TranslationTextComponent(DISABLED));
+			refuse(entities, DISABLED);
 			return;
 		}
 		if(location != null && location.getPos().getY() != -1)
 		{
-			ServerWorld world = entity.getServer().getWorld(location.getDimension());
+			ServerWorld world = this.world.getServer().getWorld(location.getDimension());
+			TransportalizerDestinations.warm(world, this.destId, location);
 			TransportalizerTileEntity destTransportalizer = (TransportalizerTileEntity) world.getTileEntity(location.getPos());
 			if(destTransportalizer == null)
 			{
@@ -117,38 +122,43 @@ public class TransportalizerTileEntity extends OnCollisionTeleporterTileEntity<E
 			
 			if(isDimensionForbidden(world.getDimension().getType()))
 			{
-				entity.timeUntilPortal = entity.getPortalCooldown();
-				if(entity instanceof ServerPlayerEntity)
-					entity.sendMessage(new TranslationTextComponent(FORBIDDEN));
+				refuse(entities, FORBIDDEN);
 				return;
 			}
 			if(isDimensionForbidden(location.getDimension()))
 			{
-				entity.timeUntilPortal = entity.getPortalCooldown();
-				if(entity instanceof ServerPlayerEntity)
-					entity.sendMessage(new TranslationTextComponent(FORBIDDEN_DESTINATION));
+				refuse(entities, FORBIDDEN_DESTINATION);
 				return;
 			}
 			
 			if(isBlocked(this.world, this.pos))
 			{
-				entity.timeUntilPortal = entity.getPortalCooldown();
-				if(entity instanceof ServerPlayerEntity)
-					entity.sendMessage(new TranslationTextComponent(BLOCKED));
+				refuse(entities, BLOCKED);
 				return;
 			}
 			
 			if(isBlocked(world, location.getPos()))
 			{
-				entity.timeUntilPortal = entity.getPortalCooldown();
-				if(entity instanceof ServerPlayerEntity)
-					entity.sendMessage(new TranslationTextComponent(BLOCKED_DESTINATION));
+				refuse(entities, BLOCKED_DESTINATION);
 				return;
 			}
 			
-			entity = Teleport.teleportEntity(entity, (ServerWorld) destTransportalizer.world, location.getPos().getX() + 0.5, location.getPos().getY() + 0.6, location.getPos().getZ() + 0.5, entity.rotationYaw, entity.rotationPitch);
-			if(entity != null)
-				entity.timeUntilPortal = entity.getPortalCooldown();
+			for(Entity entity : entities)
+			{
+				entity = Teleport.teleportEntity(entity, world, location.getPos().getX() + 0.5, location.getPos().getY() + 0.6, location.getPos().getZ() + 0.5, entity.rotationYaw, entity.rotationPitch);
+				if(entity != null)
+					entity.timeUntilPortal = entity.getPortalCooldown();
+			}
+		}
+	}
+	
+	private static void refuse(List<Entity> entities, String message)
+	{
+		for(Entity entity : entities)
+		{
+			entity.timeUntilPortal = entity.getPortalCooldown();
+			if(entity instanceof ServerPlayerEntity)
+				entity.sendMessage(new TranslationTextComponent(message));
 		}
 	}
 	
@@ -193,12 +203,27 @@ public class TransportalizerTileEntity extends OnCollisionTeleporterTileEntity<E
 	public void setDestId(String destId)
 	{
 		this.destId = destId;
+		if(!world.isRemote && !destId.isEmpty())
+		{
+			GlobalPos location = TransportalizerSavedData.get(world).get(destId);
+			if(location != null)
+				TransportalizerDestinations.warm(world.getServer(), destId, location);
+		}
 		BlockState state = world.getBlockState(pos);
 		this.markDirty();
 		world.notifyBlockUpdate(pos, state, state, 0);
 	}
 
-	public boolean getEnabled() { return enabled; }
+	public boolean getEnabled()
+	{
+		if(enabled == null)
+		{
+			if(world == null || world.isRemote)
+				return true;
+			updatePower();
+		}
+		return enabled;
+	}
 	
 	public boolean getActive()
 	{
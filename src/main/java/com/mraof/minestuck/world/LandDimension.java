@@ -113,6 +113,11 @@ public class LandDimension extends Dimension
 		return MSWorldGenTypes.LANDS.create(this.world, MSWorldGenTypes.LAND_BIOMES.create(MSWorldGenTypes.LAND_BIOMES.createSettings().setGenSettings(settings).setSeed(this.getSeed())), settings);
 	}
 	
+	public StructureBlockRegistry getBlocks()
+	{
+		return blocks;
+	}
+	
 	public LandWrapperBiome getWrapperBiome(Biome biome)
 	{
 		return biomeHolder.localBiomeFrom(biome);
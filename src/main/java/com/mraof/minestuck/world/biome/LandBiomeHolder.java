@@ -9,6 +9,7 @@ public class LandBiomeHolder
 {
 	private final LandTypePair landTypes;
 	private final LandWrapperBiome normalBiome, oceanBiome, roughBiome;
+	private final LandWrapperBiome[] biomes;
 	
 	public LandBiomeHolder(LandProperties properties, LandTypePair landTypes)
 	{
@@ -17,6 +18,7 @@ public class LandBiomeHolder
 		normalBiome = MSBiomes.LAND_NORMAL.createWrapper(properties);
 		roughBiome = MSBiomes.LAND_ROUGH.createWrapper(properties);
 		oceanBiome = MSBiomes.LAND_OCEAN.createWrapper(properties);
+		biomes = new LandWrapperBiome[]{normalBiome, roughBiome, oceanBiome};
 	}
 	
 	public void initBiomesWith(StructureBlockRegistry blocks)
@@ -31,7 +33,7 @@ public class LandBiomeHolder
 	
 	public LandWrapperBiome localBiomeFrom(Biome biome)
 	{
-		for(LandWrapperBiome wrapperBiome : getBiomes())
+		for(LandWrapperBiome wrapperBiome : biomes)	//Called often during world generation, so this avoids the copy from getBiomes()
 		{
 			if(wrapperBiome.staticBiome == biome)
 				return wrapperBiome;
@@ -42,6 +44,6 @@ public class LandBiomeHolder
 	
 	public LandWrapperBiome[] getBiomes()
 	{
-		return new LandWrapperBiome[]{normalBiome, roughBiome, oceanBiome};
+		return biomes.clone();
 	}
 }
\ No newline at end of file
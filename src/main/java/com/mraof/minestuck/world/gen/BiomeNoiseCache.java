@@ -0,0 +1,109 @@
+package com.mraof.minestuck.world.gen;
+
+import com.mraof.minestuck.world.biome.LandBiomeHolder;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.provider.BiomeProvider;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches the depth and scale of noise columns for a {@link LandChunkGenerator}, computed from the local biomes around each column.
+ * Columns are grouped into square regions, and when a region is first needed, the local biomes of the region and its border
+ * are looked up once and the depth and scale of all columns are computed together.
+ * This avoids looking up the 25 biomes around every column separately, when neighbouring columns share most of them.
+ * Regions are kept in a small table indexed by region position, where a region replaces whichever region was in its slot before.
+ * Regions are never changed after being created, so the cache can be used by several chunk generation workers at once.
+ * If two workers happen to create the same region at the same time, one of them is simply discarded.
+ */
+class BiomeNoiseCache
+{
+	private static final float[] BIOME_WEIGHT;
+	
+	static {
+		BIOME_WEIGHT = new float[25];
+		for(int x = -2; x <= 2; x++)
+			for(int z = -2; z <= 2; z++)
+				BIOME_WEIGHT[(x + 2)*5 + z + 2] = 10.0F / MathHelper.sqrt((float)(x * x + z * z) + 0.2F);
+	}
+	
+	private static final int REGION_BITS = 4, REGION_SIZE = 1 << REGION_BITS;	//A region of 16x16 columns covers 4x4 chunks
+	private static final int BORDER = 2, AREA_SIZE = REGION_SIZE + 2*BORDER;
+	private static final int TABLE_BITS = 3, TABLE_SIZE = 1 << TABLE_BITS;	//Covers 8x8 regions without overlap
+	
+	private final BiomeProvider biomeProvider;
+	private final LandBiomeHolder biomeHolder;
+	private final AtomicReferenceArray<Region> regions = new AtomicReferenceArray<>(TABLE_SIZE*TABLE_SIZE);
+	
+	BiomeNoiseCache(BiomeProvider biomeProvider, LandBiomeHolder biomeHolder)
+	{
+		this.biomeProvider = biomeProvider;
+		this.biomeHolder = biomeHolder;
+	}
+	
+	/**
+	 * @return the depth and scale of the noise column, as returned by {@link LandChunkGenerator#getBiomeNoiseColumn(int, int)}
+	 */
+	double[] getNoiseColumn(int columnX, int columnZ)
+	{
+		int regionX = columnX >> REGION_BITS, regionZ = columnZ >> REGION_BITS;
+		int slot = (regionX & TABLE_SIZE - 1) << TABLE_BITS | regionZ & TABLE_SIZE - 1;
+		
+		Region region = regions.get(slot);
+		if(region == null || region.x != regionX || region.z != regionZ)
+		{
+			region = new Region(regionX, regionZ);
+			regions.set(slot, region);
+		}
+		
+		int index = (columnX & REGION_SIZE - 1) * REGION_SIZE + (columnZ & REGION_SIZE - 1);
+		return new double[]{region.depth[index], region.scale[index]};
+	}
+	
+	private class Region
+	{
+		private final int x, z;
+		private final float[] depth = new float[REGION_SIZE*REGION_SIZE], scale = new float[REGION_SIZE*REGION_SIZE];
+		
+		private Region(int x, int z)
+		{
+			this.x = x;
+			this.z = z;
+			
+			int startX = (x << REGION_BITS) - BORDER, startZ = (z << REGION_BITS) - BORDER;
+			Biome[] biomes = new Biome[AREA_SIZE*AREA_SIZE];
+			for(int i = 0; i < AREA_SIZE; i++)
+				for(int j = 0; j < AREA_SIZE; j++)
+					biomes[i*AREA_SIZE + j] = biomeHolder.localBiomeFrom(biomeProvider.getBiomeAtFactorFour(startX + i, startZ + j));
+			
+			for(int i = 0; i < REGION_SIZE; i++)
+				for(int j = 0; j < REGION_SIZE; j++)
+					computeColumn(biomes, i, j);
+		}
+		
+		private void computeColumn(Biome[] biomes, int columnX, int columnZ)
+		{
+			float baseDepth = biomes[(columnX + BORDER)*AREA_SIZE + columnZ + BORDER].getDepth();
+			
+			float depthSum = 0, scaleSum = 0, weightSum = 0;
+			for(int x = -2; x <= 2; x++)
+			{
+				for(int z = -2; z <= 2; z++)
+				{
+					Biome biome = biomes[(columnX + BORDER + x)*AREA_SIZE + columnZ + BORDER + z];
+					float weight = BIOME_WEIGHT[(x + 2)*5 + z + 2] / (biome.getDepth() + 2);
+					if(biome.getDepth() > baseDepth)
+						weight /= 2;
+					
+					depthSum += biome.getDepth() * weight;
+					scaleSum += biome.getScale() * weight;
+					weightSum += weight;
+				}
+			}
+			
+			int index = columnX*REGION_SIZE + columnZ;
+			depth[index] = (depthSum / weightSum) * 0.5F - 1/8F;
+			scale[index] = (scaleSum / weightSum) * 0.9F + 0.1F;
+		}
+	}
+}
@@ -7,7 +7,6 @@ import com.mraof.minestuck.world.lands.LandTypePair;
 import net.minecraft.entity.EntityClassification;
 import net.minecraft.util.SharedSeedRandom;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.provider.BiomeProvider;
@@ -20,24 +19,16 @@ import net.minecraft.world.gen.feature.IFeatureConfig;
 import net.minecraft.world.gen.feature.structure.Structure;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 public class LandChunkGenerator extends NoiseChunkGenerator<LandGenSettings>
 {
-	private static final float[] biomeWeight;
-	
-	static {
-		biomeWeight = new float[25];
-		for(int x = -2; x <= 2; x++)
-			for(int z = -2; z <= 2; z++)
-				biomeWeight[(x + 2)*5 + z + 2] = 10.0F / MathHelper.sqrt((float)(x * x + z * z) + 0.2F);
-	}
-	
 	public final LandTypePair landTypes;
 	public final StructureBlockRegistry blockRegistry;
 	public final LandBiomeHolder biomeHolder;
+	private final BiomeNoiseCache noiseCache;
+	private final MonsterSpawnCache monsterSpawns = new MonsterSpawnCache();
 	
 	public LandChunkGenerator(IWorld worldIn, BiomeProvider biomeProviderIn, LandGenSettings settings)
 	{
@@ -47,32 +38,13 @@ public class LandChunkGenerator extends NoiseChunkGenerator<LandGenSettings>
 		blockRegistry = Objects.requireNonNull(settings.getBlockRegistry());
 		
 		biomeHolder = Objects.requireNonNull(settings.getBiomeHolder());
+		noiseCache = new BiomeNoiseCache(biomeProvider, biomeHolder);
 	}
 	
 	@Override
 	protected double[] getBiomeNoiseColumn(int columnX, int columnZ)
 	{
-		float baseDepth = biomeHolder.localBiomeFrom(biomeProvider.getBiomeAtFactorFour(columnX, columnZ)).getDepth();
-		
-		float depthSum = 0, scaleSum = 0, weightSum = 0;
-		for(int x = -2; x <= 2; x++)
-		{
-			for(int z = -2; z <= 2; z++)
-			{
-				Biome biome = biomeHolder.localBiomeFrom(biomeProvider.getBiomeAtFactorFour(columnX + x, columnZ + z));
-				float weight = biomeWeight[(x + 2)*5 + z + 2] / (biome.getDepth() + 2);
-				if(biome.getDepth() > baseDepth)
-					weight /= 2;
-				
-				depthSum += biome.getDepth() * weight;
-				scaleSum += biome.getScale() * weight;
-				weightSum += weight;
-			}
-		}
-		
-		float depth = (depthSum / weightSum) * 0.5F - 1/8F;
-		float scale = (scaleSum / weightSum) * 0.9F + 0.1F;
-		return new double[]{depth, scale};
+		return noiseCache.getNoiseColumn(columnX, columnZ);
 	}
 	
 	@Override
@@ -122,11 +94,7 @@ public class LandChunkGenerator extends NoiseChunkGenerator<LandGenSettings>
 	public List<Biome.SpawnListEntry> getPossibleCreatures(EntityClassification creatureType, BlockPos pos)
 	{
 		if(creatureType == EntityClassification.MONSTER)	//Combine biome spawn with underling spawn
-		{
-			List<Biome.SpawnListEntry> list = new ArrayList<>(super.getPossibleCreatures(creatureType, pos));
-			list.addAll(UnderlingController.getUnderlingList(pos, world.getWorld()));
-			return list;
-		}
+			return monsterSpawns.getSpawns(world.getBiome(pos), UnderlingController.getDifficulty(pos, world.getWorld()));
 		return super.getPossibleCreatures(creatureType, pos);
 	}
 	
@@ -0,0 +1,50 @@
+package com.mraof.minestuck.world.gen;
+
+import com.google.common.collect.ImmutableList;
+import com.mraof.minestuck.skaianet.UnderlingController;
+import net.minecraft.entity.EntityClassification;
+import net.minecraft.world.biome.Biome;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the monster spawn lists of a land, where the spawns of each biome have been merged ahead of time with the underling spawns of each difficulty.
+ * Spawn attempts can then pick out a finished list instead of building a new one each time.
+ * The merged lists are rebuilt whenever {@link UnderlingController} has rebuilt its spawn table, such as after a config reload.
+ * Merged lists are never changed once created, so they can be shared between threads.
+ */
+class MonsterSpawnCache
+{
+	private final Map<Biome, MergedLists> lists = new ConcurrentHashMap<>();
+	
+	List<Biome.SpawnListEntry> getSpawns(Biome biome, int difficulty)
+	{
+		List<List<Biome.SpawnListEntry>> underlingTable = UnderlingController.getSpawnTable();
+		MergedLists merged = lists.get(biome);
+		if(merged == null || merged.underlingTable != underlingTable)
+		{
+			merged = new MergedLists(biome, underlingTable);
+			lists.put(biome, merged);
+		}
+		return merged.lists.get(difficulty);
+	}
+	
+	private static class MergedLists
+	{
+		private final List<List<Biome.SpawnListEntry>> underlingTable;
+		private final List<List<Biome.SpawnListEntry>> lists;
+		
+		private MergedLists(Biome biome, List<List<Biome.SpawnListEntry>> underlingTable)
+		{
+			this.underlingTable = underlingTable;
+			
+			List<Biome.SpawnListEntry> biomeSpawns = biome.getSpawns(EntityClassification.MONSTER);
+			ImmutableList.Builder<List<Biome.SpawnListEntry>> builder = ImmutableList.builder();
+			for(List<Biome.SpawnListEntry> underlingSpawns : underlingTable)
+				builder.add(ImmutableList.<Biome.SpawnListEntry>builder().addAll(biomeSpawns).addAll(underlingSpawns).build());
+			lists = builder.build();
+		}
+	}
+}
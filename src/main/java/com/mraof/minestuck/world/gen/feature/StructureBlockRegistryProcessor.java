@@ -3,7 +3,6 @@ package com.mraof.minestuck.world.gen.feature;
 import com.mojang.datafixers.Dynamic;
 import com.mojang.datafixers.types.DynamicOps;
 import com.mraof.minestuck.world.LandDimension;
-import com.mraof.minestuck.world.gen.LandGenSettings;
 import com.mraof.minestuck.world.gen.feature.structure.blocks.StructureBlockRegistry;
 import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
@@ -25,9 +24,7 @@ public class StructureBlockRegistryProcessor extends StructureProcessor
 	{
 		if(world.getDimension() instanceof LandDimension)
 		{
-			LandDimension dimension = (LandDimension) world.getDimension();
-			LandGenSettings settings = (LandGenSettings) dimension.getWorld().getChunkProvider().getChunkGenerator().getSettings();
-			StructureBlockRegistry registry = settings.getBlockRegistry();
+			StructureBlockRegistry registry = ((LandDimension) world.getDimension()).getBlocks();	//Same registry as in the chunk generator settings
 			BlockState newState = registry.getTemplateState(original.state);
 			return new Template.BlockInfo(current.pos, newState, current.nbt);
 		}
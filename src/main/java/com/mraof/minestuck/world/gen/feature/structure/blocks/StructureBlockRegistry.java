@@ -12,6 +12,7 @@ import net.minecraft.world.gen.feature.OreFeatureConfig;
 import net.minecraft.world.gen.surfacebuilders.SurfaceBuilderConfig;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -39,7 +40,7 @@ public final class StructureBlockRegistry
 		if(templateBlockMap.containsKey(defaultBlock.getBlock()))
 			throw new IllegalStateException("Can't have two identical template blocks!");
 		
-		staticRegistry.put(name, new BlockEntry(defaultBlock, extention));
+		staticRegistry.put(name, new BlockEntry(name, staticRegistry.size(), defaultBlock, extention));
 		templateBlockMap.put(defaultBlock.getBlock(), name);
 	}
 	
@@ -63,7 +64,7 @@ public final class StructureBlockRegistry
 		if(templateBlockMap.containsKey(templateState))
 			throw new IllegalStateException("Can't have two identical template blocks!");
 		
-		staticRegistry.put(name, new BlockEntry(parent, extention));
+		staticRegistry.put(name, new BlockEntry(name, staticRegistry.size(), parent, extention));
 		templateBlockMap.put(templateState, name);
 	}
 	
@@ -122,31 +123,31 @@ public final class StructureBlockRegistry
 	
 	private static class BlockEntry
 	{
+		final String name;
+		final int index;	//Index in the compiled state array
 		Class<? extends Block> extention;
 		BlockState defaultBlock;
 		String parentEntry;
-		BlockEntry(BlockState state, Class<? extends Block> clazz)
+		BlockEntry(String name, int index, BlockState state, Class<? extends Block> clazz)
 		{
+			this.name = name;
+			this.index = index;
 			defaultBlock = state;
 			extention = clazz;
 		}
-		BlockEntry(String str, Class<? extends Block> clazz)
+		BlockEntry(String name, int index, String str, Class<? extends Block> clazz)
 		{
+			this.name = name;
+			this.index = index;
 			parentEntry = str;
 			extention = clazz;
 		}
-		
-		BlockState getBlockState(StructureBlockRegistry registry)
-		{
-			if(parentEntry != null)
-				return registry.getBlockState(parentEntry);
-			else return defaultBlock;
-		}
 	}
 	
 	//Nonstatic stuff
 	private Map<String, BlockState> blockRegistry = new HashMap<>();
 	private OreFeatureConfig.FillerBlockType groundType = OreFeatureConfig.FillerBlockType.NATURAL_STONE;
+	private volatile CompiledStates compiledStates;	//Created on first use after the block states of this registry were last changed
 	
 	public void setBlockState(String name, BlockState state)
 	{
@@ -160,6 +161,7 @@ public final class StructureBlockRegistry
 			throw new IllegalArgumentException("Should use setGroundState() for setting the ground block.");
 		
 		blockRegistry.put(name, state);
+		compiledStates = null;
 	}
 	
 	public void setGroundState(BlockState state, OreFeatureConfig.FillerBlockType groundType)
@@ -169,18 +171,18 @@ public final class StructureBlockRegistry
 		
 		blockRegistry.put("ground", state);
 		this.groundType = groundType;
+		compiledStates = null;
 	}
 	
 	public BlockState getBlockState(String name)
 	{
 		if(name == null)
 			throw new IllegalArgumentException("Null parameters not allowed.");
-		if(!staticRegistry.containsKey(name))
+		BlockEntry entry = staticRegistry.get(name);
+		if(entry == null)
 			throw new IllegalStateException("Structure block \""+name+"\" isn't registered, and can therefore not be obtained.");
 		
-		if(blockRegistry.containsKey(name))
-			return blockRegistry.get(name);
-		else return staticRegistry.get(name).getBlockState(this);
+		return getCompiledStates().states[entry.index];
 	}
 	
 	public BlockState getCustomBlock(String name)
@@ -207,13 +209,8 @@ public final class StructureBlockRegistry
 	
 	public BlockState getTemplateState(BlockState state)
 	{
-		if(templateBlockMap.containsKey(state.getBlock()))
-		{
-			BlockState newState = getBlockState(templateBlockMap.get(state.getBlock()));
-			for(IProperty<?> property : state.getProperties())
-				newState = with(state, newState, property);
-			return newState;
-		} else return state;
+		BlockState newState = getCompiledStates().templateStates.get(state);
+		return newState != null ? newState : state;
 	}
 	
 	public SurfaceBuilderConfig getSurfaceBuilderConfig()
@@ -221,6 +218,57 @@ public final class StructureBlockRegistry
 		return new SurfaceBuilderConfig(getBlockState("surface"), getBlockState("upper"), getBlockState("ocean_surface"));
 	}
 	
+	private CompiledStates getCompiledStates()
+	{
+		CompiledStates compiledStates = this.compiledStates;
+		if(compiledStates == null || compiledStates.states.length != staticRegistry.size())	//Also recompile if more blocks were registered since
+			this.compiledStates = compiledStates = new CompiledStates();
+		return compiledStates;
+	}
+	
+	/**
+	 * The block states of this registry with parent entries resolved, indexed by entry,
+	 * together with what every possible state of each template block translates to.
+	 * This lets structure placement substitute blocks with a single lookup per block.
+	 * Never changed once created, so it can be shared by worker threads.
+	 */
+	private class CompiledStates
+	{
+		private final BlockState[] states = new BlockState[staticRegistry.size()];
+		private final Map<BlockState, BlockState> templateStates = new IdentityHashMap<>();
+		
+		private CompiledStates()
+		{
+			for(BlockEntry entry : staticRegistry.values())
+				resolve(entry);
+			
+			for(Map.Entry<Block, String> entry : templateBlockMap.entrySet())
+			{
+				BlockState templateState = states[staticRegistry.get(entry.getValue()).index];
+				for(BlockState state : entry.getKey().getStateContainer().getValidStates())
+				{
+					BlockState newState = templateState;
+					for(IProperty<?> property : state.getProperties())
+						newState = with(state, newState, property);
+					templateStates.put(state, newState);
+				}
+			}
+		}
+		
+		private BlockState resolve(BlockEntry entry)
+		{
+			BlockState state = states[entry.index];
+			if(state == null)
+			{
+				state = blockRegistry.get(entry.name);
+				if(state == null)
+					state = entry.parentEntry != null ? resolve(staticRegistry.get(entry.parentEntry)) : entry.defaultBlock;
+				states[entry.index] = state;
+			}
+			return state;
+		}
+	}
+	
 	private static <T extends Comparable<T>> BlockState with(BlockState fromState, BlockState toState, IProperty<T> property)
 	{
 		if(toState.has(property))
@@ -1,11 +1,16 @@
 package com.mraof.minestuck.world.storage;
 
 import com.mraof.minestuck.Minestuck;
+import com.mraof.minestuck.client.gui.MSScreenFactories;
 import com.mraof.minestuck.computer.editmode.ClientEditHandler;
+import com.mraof.minestuck.inventory.captchalogue.CaptchaDeckHandler;
 import com.mraof.minestuck.inventory.captchalogue.Modus;
+import com.mraof.minestuck.item.crafting.alchemy.GristAmount;
 import com.mraof.minestuck.item.crafting.alchemy.GristSet;
-import com.mraof.minestuck.network.GristCachePacket;
+import com.mraof.minestuck.network.*;
 import com.mraof.minestuck.player.Title;
+import com.mraof.minestuck.util.Debug;
+import net.minecraft.nbt.CompoundNBT;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -19,6 +24,9 @@ import net.minecraftforge.fml.common.Mod;
 public class ClientPlayerData
 {
 	public static Modus clientSideModus;
+	private static CompoundNBT modusData;	//The modus data of the latest received version, which modus changes are applied to
+	private static int modusVersion;
+	private static boolean awaitingModusData;
 	public static Title title;
 	public static boolean echeladderAvailable;
 	public static int rung;
@@ -33,12 +41,48 @@ public class ClientPlayerData
 	public static void onLoggedIn(ClientPlayerNetworkEvent.LoggedInEvent event)
 	{
 		clientSideModus = null;
+		modusData = null;
+		awaitingModusData = false;
 		title = null;
 		rung = -1;
 		playerColor = -1;
 		displaySelectionGui = false;
 	}
 	
+	public static void onPacketReceived(ModusDataPacket packet)
+	{
+		modusData = packet.nbt.copy();
+		modusVersion = packet.version;
+		awaitingModusData = false;
+		updateModus(packet.nbt);
+	}
+	
+	public static void onPacketReceived(ModusChangesPacket packet)
+	{
+		if(modusData == null || modusVersion != packet.baseVersion)
+		{
+			//Missed a version, so the full data is needed. Changes are ignored until it arrives
+			if(!awaitingModusData)
+			{
+				awaitingModusData = true;
+				MSPacketHandler.sendToServer(CaptchaDeckPacket.resync());
+			}
+			return;
+		}
+		
+		packet.applyTo(modusData);
+		modusVersion = packet.version;
+		updateModus(modusData.copy());
+	}
+	
+	private static void updateModus(CompoundNBT nbt)
+	{
+		clientSideModus = CaptchaDeckHandler.readFromNBT(nbt, null);
+		if(clientSideModus != null)
+			MSScreenFactories.updateSylladexScreen();
+		else Debug.debug("Player lost their modus after update packet");
+	}
+	
 	public static void onPacketReceived(GristCachePacket packet)
 	{
 		if (packet.isEditmode)
@@ -51,6 +95,18 @@ public class ClientPlayerData
 		}
 	}
 	
+	public static void onPacketReceived(GristCacheChangesPacket packet)
+	{
+		GristSet cache = packet.isEditmode ? targetGrist : playerGrist;
+		cache = cache != null ? cache.copy() : new GristSet();
+		for(GristAmount amount : packet.changes)
+			cache.setGrist(amount.getType(), amount.getAmount());
+		
+		if(packet.isEditmode)
+			targetGrist = cache;
+		else playerGrist = cache;
+	}
+	
 	public static GristSet getClientGrist()
 	{
 		return ClientEditHandler.isActive() ? targetGrist : playerGrist;
@@ -2,7 +2,10 @@ package com.mraof.minestuck.world.storage;
 
 import com.mraof.minestuck.Minestuck;
 import com.mraof.minestuck.computer.editmode.EditData;
+import com.mraof.minestuck.entity.DecoyEntity;
 import com.mraof.minestuck.entry.PostEntryTask;
+import com.mraof.minestuck.skaianet.SburbConnection;
+import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.server.MinecraftServer;
@@ -15,6 +18,7 @@ import net.minecraftforge.common.util.Constants;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import javax.annotation.Nullable;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -31,6 +35,10 @@ public class MSExtraData extends WorldSavedData
 	private static final String DATA_NAME = Minestuck.MOD_ID+"_extra";
 	
 	private final List<EditData> activeEditData = new ArrayList<>();
+	//Lookup maps for the active edit data, which are checked by many event handlers for every player
+	private final Map<PlayerEntity, EditData> editDataByEditor = new IdentityHashMap<>();
+	private final Map<DecoyEntity, EditData> editDataByDecoy = new IdentityHashMap<>();
+	private final Map<SburbConnection, EditData> editDataByConnection = new IdentityHashMap<>();	//By identity, since the server player of a connection may change while editing
 	
 	private final Map<UUID, EditData.PlayerRecovery> editPlayerRecovery = new HashMap<>();
 	private final List<EditData.ConnectionRecovery> editConnectionRecovery = new ArrayList<>();
@@ -47,6 +55,7 @@ public class MSExtraData extends WorldSavedData
 	public void read(CompoundNBT nbt)
 	{
 		activeEditData.clear();
+		clearEditDataMaps();
 		editPlayerRecovery.clear();
 		editConnectionRecovery.clear();
 		
@@ -136,16 +145,49 @@ public class MSExtraData extends WorldSavedData
 		return null;
 	}
 	
+	@Nullable
+	public EditData getEditData(PlayerEntity editor)
+	{
+		return editDataByEditor.get(editor);
+	}
+	
+	@Nullable
+	public EditData getEditData(DecoyEntity decoy)
+	{
+		return editDataByDecoy.get(decoy);
+	}
+	
+	@Nullable
+	public EditData getEditData(SburbConnection connection)
+	{
+		return editDataByConnection.get(connection);
+	}
+	
 	public void addEditData(EditData data)
 	{
 		activeEditData.add(data);
+		editDataByEditor.put(data.getEditor(), data);
+		editDataByDecoy.put(data.getDecoy(), data);
+		editDataByConnection.put(data.getConnection(), data);
 		markDirty();
 	}
 	
 	public void removeEditData(EditData data)
 	{
 		if(activeEditData.remove(data))
+		{
+			editDataByEditor.remove(data.getEditor(), data);
+			editDataByDecoy.remove(data.getDecoy(), data);
+			editDataByConnection.remove(data.getConnection(), data);
 			markDirty();
+		}
+	}
+	
+	private void clearEditDataMaps()
+	{
+		editDataByEditor.clear();
+		editDataByDecoy.clear();
+		editDataByConnection.clear();
 	}
 	
 	public void forEach(Consumer<EditData> consumer)
@@ -159,6 +201,7 @@ public class MSExtraData extends WorldSavedData
 		{
 			forEach(consumer);
 			activeEditData.clear();
+			clearEditDataMaps();
 			markDirty();
 		}
 	}
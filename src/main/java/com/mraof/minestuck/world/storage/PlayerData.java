@@ -6,7 +6,9 @@ import com.mraof.minestuck.computer.editmode.EditData;
 import com.mraof.minestuck.computer.editmode.ServerEditHandler;
 import com.mraof.minestuck.inventory.captchalogue.CaptchaDeckHandler;
 import com.mraof.minestuck.inventory.captchalogue.Modus;
+import com.mraof.minestuck.item.crafting.alchemy.GristAmount;
 import com.mraof.minestuck.item.crafting.alchemy.GristSet;
+import com.mraof.minestuck.item.crafting.alchemy.GristType;
 import com.mraof.minestuck.item.crafting.alchemy.GristTypes;
 import com.mraof.minestuck.item.crafting.alchemy.ImmutableGristSet;
 import com.mraof.minestuck.item.crafting.alchemy.NonNegativeGristSet;
@@ -18,6 +20,7 @@ import com.mraof.minestuck.player.Title;
 import com.mraof.minestuck.skaianet.SburbConnection;
 import com.mraof.minestuck.skaianet.SburbHandler;
 import com.mraof.minestuck.skaianet.SkaianetHandler;
+import com.mraof.minestuck.tileentity.MiniAlchemiterTileEntity;
 import com.mraof.minestuck.util.ColorHandler;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
@@ -30,6 +33,8 @@ import net.minecraftforge.fml.common.Mod;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
 
@@ -50,6 +55,14 @@ public final class PlayerData
 		PlayerSavedData.getData(player).onPlayerLoggedIn(player);
 	}
 	
+	@SubscribeEvent
+	public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event)
+	{
+		ServerPlayerEntity player = (ServerPlayerEntity) event.getPlayer();
+		PlayerData data = PlayerSavedData.getData(player);
+		data.savedData.release(data);
+	}
+	
 	final PlayerIdentifier identifier;
 	
 	private final PlayerSavedData savedData;
@@ -58,8 +71,12 @@ public final class PlayerData
 	
 	private boolean givenModus;
 	private Modus modus;
+	private CompoundNBT sentModusData;	//The modus data last sent to the player, which the next changes are based on. Not saved
+	private int modusVersion;
 	private long boondollars;
-	private ImmutableGristSet gristCache;	//This is immutable in order to control where it can be changed
+	private NonNegativeGristSet gristCache;	//Only changed through setGristCache() and addGrist()
+	private ImmutableGristSet immutableGristCache;	//Returned by getGristCache() in order to control where the cache can be changed. Cleared when the cache changes
+	private final BitSet changedGristTypes = new BitSet();	//Indexed by GristType.getIndex(). Cleared when the changes are sent
 	
 	private Title title;
 	private boolean effectToggle;
@@ -71,7 +88,8 @@ public final class PlayerData
 		this.savedData = savedData;
 		this.identifier = player;
 		echeladder = new Echeladder(savedData, player);
-		gristCache = new ImmutableGristSet(GristTypes.BUILD, 20);
+		gristCache = new NonNegativeGristSet();
+		gristCache.setGrist(GristTypes.BUILD, 20);
 		hasLoggedIn = false;
 	}
 	
@@ -88,11 +106,12 @@ public final class PlayerData
 		if (nbt.contains("modus"))
 		{
 			this.modus = CaptchaDeckHandler.readFromNBT(nbt.getCompound("modus"), savedData);
+			savedData.onModusChanged(this, null, modus);
 			givenModus = true;
 		}
 		else givenModus = nbt.getBoolean("given_modus");
 		boondollars = nbt.getLong("boondollars");
-		gristCache = NonNegativeGristSet.read(nbt.getList("grist_cache", Constants.NBT.TAG_COMPOUND)).asImmutable();
+		gristCache = NonNegativeGristSet.read(nbt.getList("grist_cache", Constants.NBT.TAG_COMPOUND));
 		
 		title = Title.tryRead(nbt, "title");
 		effectToggle = nbt.getBoolean("effect_toggle");
@@ -122,7 +141,7 @@ public final class PlayerData
 	
 	private void markDirty()
 	{
-		savedData.markDirty();
+		savedData.markDirty(this);
 	}
 	
 	public Echeladder getEcheladder()
@@ -155,6 +174,7 @@ public final class PlayerData
 	{
 		if(this.modus != modus)
 		{
+			savedData.onModusChanged(this, this.modus, modus);
 			this.modus = modus;
 			if(modus != null)
 				setGivenModus();
@@ -162,6 +182,34 @@ public final class PlayerData
 		}
 	}
 	
+	/**
+	 * Sends the modus data to the player, as changes since the data that was last sent if possible.
+	 * The modus is passed separately since it may be sent right after being replaced.
+	 */
+	public void sendModus(ServerPlayerEntity player, Modus modus)
+	{
+		CompoundNBT nbt = CaptchaDeckHandler.writeToNBT(modus);
+		if(nbt == null || player == null)
+			return;
+		
+		ModusChangesPacket changes = sentModusData != null ? ModusChangesPacket.create(sentModusData, nbt, modusVersion, modusVersion + 1) : null;
+		modusVersion++;
+		if(changes != null)
+			MSPacketHandler.sendToPlayer(changes, player);
+		else MSPacketHandler.sendToPlayer(ModusDataPacket.create(nbt, modusVersion), player);
+		sentModusData = nbt.copy();
+	}
+	
+	/**
+	 * Sends all modus data to the player, for when the player might not have any earlier version of it.
+	 */
+	public void sendFullModus(ServerPlayerEntity player)
+	{
+		sentModusData = null;
+		if(getModus() != null)
+			sendModus(player, getModus());
+	}
+	
 	public boolean hasGivenModus()
 	{
 		return givenModus;
@@ -233,14 +281,86 @@ public final class PlayerData
 	
 	public ImmutableGristSet getGristCache()
 	{
-		return gristCache;
+		if(immutableGristCache == null)
+			immutableGristCache = gristCache.asImmutable();
+		return immutableGristCache;
 	}
 	
 	public void setGristCache(NonNegativeGristSet cache)
 	{
-		gristCache = cache.asImmutable();
+		NonNegativeGristSet newCache = new NonNegativeGristSet(cache);
+		for(GristType type : GristTypes.values())
+		{
+			if(gristCache.getGrist(type) != newCache.getGrist(type))
+				changedGristTypes.set(type.getIndex());
+		}
+		gristCache = newCache;
+		onGristCacheChanged();
+	}
+	
+	/**
+	 * Adds the grist to the grist cache in place, instead of replacing the cache with a changed copy.
+	 * @throws IllegalArgumentException if any grist amount would go below 0, in which case the cache is left unchanged
+	 */
+	public void addGrist(GristSet set)
+	{
+		set.forEach((type, amount) ->
+		{
+			if(gristCache.getGrist(type) + amount < 0)
+				throw new IllegalArgumentException("Grist count may not go below 0");
+		});
+		
+		set.forEach((type, amount) ->
+		{
+			if(amount != 0)
+			{
+				gristCache.addGrist(type, amount);
+				changedGristTypes.set(type.getIndex());
+			}
+		});
+		onGristCacheChanged();
+	}
+	
+	private void onGristCacheChanged()
+	{
+		immutableGristCache = null;
 		markDirty();
-		updateGristCache(getPlayer());
+		savedData.onGristCacheChanged(this);
+		MiniAlchemiterTileEntity.onGristCacheChanged(identifier);
+	}
+	
+	/**
+	 * Sends the amounts of any grist types that have changed since the last call to the player and to any editor of the player.
+	 * Called at most once per tick, so that several changes to the grist cache only result in one packet.
+	 */
+	void sendGristCacheChanges()
+	{
+		if(changedGristTypes.isEmpty())
+			return;
+		
+		List<GristAmount> changes = new ArrayList<>(changedGristTypes.cardinality());
+		for(int i = changedGristTypes.nextSetBit(0); i >= 0; i = changedGristTypes.nextSetBit(i + 1))
+		{
+			GristType type = GristType.byIndex(i);
+			changes.add(new GristAmount(type, gristCache.getGrist(type)));
+		}
+		changedGristTypes.clear();
+		
+		//Send to the player
+		ServerPlayerEntity player = getPlayer();
+		if(player != null)
+			MSPacketHandler.sendToPlayer(new GristCacheChangesPacket(changes, false), player);
+		
+		//Also send to the editing player, if there is any
+		SburbConnection c = SkaianetHandler.get(savedData.mcServer).getActiveConnection(identifier);
+		if(c != null)
+		{
+			EditData data = ServerEditHandler.getData(savedData.mcServer, c);
+			if(data != null)
+			{
+				data.sendGristCacheChangesToEditor(changes);
+			}
+		}
 	}
 	
 	public Title getTitle()
@@ -305,16 +425,12 @@ public final class PlayerData
 		if(getModus() == null && !hasGivenModus())
 			tryGiveStartingModus(player);
 		
-		if(getModus() != null)
-		{
-			Modus modus = getModus();
-			MSPacketHandler.sendToPlayer(ModusDataPacket.create(CaptchaDeckHandler.writeToNBT(modus)), player);
-		}
+		sendFullModus(player);
 		
 		echeladder.sendInitialPacket(player);
 		sendColor(player, !hasLoggedIn);
 		sendBoondollars(player);
-		updateGristCache(player);
+		sendGristCache(player);
 		sendTitle(player);
 		
 		hasLoggedIn = true;
@@ -341,27 +457,15 @@ public final class PlayerData
 		MSPacketHandler.sendToPlayer(packet, player);
 	}
 	
-	private void updateGristCache(ServerPlayerEntity player)
+	/**
+	 * Sends the full grist cache to the player. Changes after this are sent by {@link #sendGristCacheChanges()}.
+	 */
+	public void sendGristCache(ServerPlayerEntity player)
 	{
-		GristSet gristSet = getGristCache();
-		
-		//Send to the player
-		if(player != null)
-		{
-			GristCachePacket packet = new GristCachePacket(gristSet, false);
-			MSPacketHandler.sendToPlayer(packet, player);
-		}
-		
-		//Also send to the editing player, if there is any
-		SburbConnection c = SkaianetHandler.get(savedData.mcServer).getActiveConnection(identifier);
-		if(c != null)
-		{
-			EditData data = ServerEditHandler.getData(savedData.mcServer, c);
-			if(data != null)
-			{
-				data.sendGristCacheToEditor();
-			}
-		}
+		if(player == null)
+			return;
+		GristCachePacket packet = new GristCachePacket(getGristCache(), false);
+		MSPacketHandler.sendToPlayer(packet, player);
 	}
 	
 	private void sendTitle(ServerPlayerEntity player)
@@ -1,10 +1,13 @@
 package com.mraof.minestuck.world.storage;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mraof.minestuck.Minestuck;
+import com.mraof.minestuck.inventory.captchalogue.Modus;
 import com.mraof.minestuck.player.IdentifierHandler;
 import com.mraof.minestuck.player.PlayerIdentifier;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.World;
@@ -16,8 +19,20 @@ import net.minecraftforge.common.util.Constants;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
-import java.util.Map;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Stores all instances of {@link PlayerData}.
@@ -28,8 +43,16 @@ public class PlayerSavedData extends WorldSavedData
 {
 	private static final Logger LOGGER = LogManager.getLogger();
 	private static final String DATA_NAME = Minestuck.MOD_ID+"_player_data";
+	private static final ExecutorService SAVE_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Minestuck Player Data Saver").setDaemon(true).build());
 	
 	private final Map<PlayerIdentifier, PlayerData> dataMap = new HashMap<>();
+	private final Set<PlayerData> dirtyData = new HashSet<>();
+	private final Map<Modus, PlayerData> modusOwners = new IdentityHashMap<>();
+	private final Queue<PlayerData> failedData = new ConcurrentLinkedQueue<>();
+	private final Set<PlayerData> releasedData = new HashSet<>();	//Data of players that have logged out, which is unloaded once it has been saved
+	private final Queue<PlayerData> savedReleasedData = new ConcurrentLinkedQueue<>();
+	private boolean hasLegacyData;
+	private final Set<PlayerData> changedGristCaches = new LinkedHashSet<>();
 	public final MinecraftServer mcServer;
 	
 	private PlayerSavedData(MinecraftServer server)
@@ -62,20 +85,160 @@ public class PlayerSavedData extends WorldSavedData
 		return instance;
 	}
 	
+	/**
+	 * Player data is stored in one file per player in this directory, so that only the data of changed players has to be saved.
+	 * Older worlds have all player data in the main file, which is moved to the player files on the first save.
+	 */
+	private Path getPlayerDirectory()
+	{
+		return mcServer.getWorld(DimensionType.OVERWORLD).getSaveHandler().getWorldDirectory().toPath().resolve("data").resolve(DATA_NAME);
+	}
+	
+	private Path getPlayerFile(PlayerIdentifier player)
+	{
+		return getPlayerDirectory().resolve(player.getCommandString() + ".dat");
+	}
+	
 	@Override
 	public CompoundNBT write(CompoundNBT compound)
 	{
-		ListNBT list = new ListNBT();
-		for (PlayerData data : dataMap.values())
-			list.add(data.writeToNBT());
+		//Snapshot the data of changed players here on the server thread, and write the files on the save thread
+		Map<PlayerData, CompoundNBT> snapshot = new HashMap<>();
+		List<PlayerData> released = new ArrayList<>();
+		for(PlayerData data : dirtyData)
+		{
+			snapshot.put(data, data.writeToNBT());
+			if(releasedData.contains(data))
+				released.add(data);
+		}
+		dirtyData.clear();
+		
+		if(!snapshot.isEmpty())
+		{
+			Map<Path, CompoundNBT> files = new HashMap<>();
+			Map<Path, PlayerData> fileOwners = new HashMap<>();
+			snapshot.forEach((data, nbt) -> {
+				Path file = getPlayerFile(data.identifier);
+				files.put(file, nbt);
+				fileOwners.put(file, data);
+			});
+			Future<Set<Path>> task = SAVE_EXECUTOR.submit(() -> {
+				Set<Path> failed = writePlayerFiles(files);
+				for(Path file : failed)
+					failedData.add(fileOwners.get(file));
+				for(PlayerData data : released)
+					if(!failed.contains(getPlayerFile(data.identifier)))
+						savedReleasedData.add(data);
+				return failed;
+			});
+			if(hasLegacyData)	//The main file will no longer contain player data after this, so make sure that the player files are written first
+			{
+				try
+				{
+					if(task.get().isEmpty())
+						hasLegacyData = false;
+				} catch(InterruptedException | ExecutionException e)
+				{
+					LOGGER.error("Got exception when moving minestuck player data to separate files:", e);
+				}
+			}
+		}
+		
+		if(hasLegacyData)	//Keep the player data in the main file until all player files have been written
+		{
+			ListNBT list = new ListNBT();
+			for(PlayerData data : dataMap.values())
+				list.add(snapshot.containsKey(data) ? snapshot.get(data) : data.writeToNBT());
+			compound.put("playerData", list);
+		}
 		
-		compound.put("playerData", list);
+		compound.putInt("fake_player_index", IdentifierHandler.getFakePlayerIndex());
+		compound.putInt("version", 1);
 		return compound;
 	}
 	
+	/**
+	 * Writes the player files.
+	 * @return the files that could not be written
+	 */
+	private static Set<Path> writePlayerFiles(Map<Path, CompoundNBT> snapshot)
+	{
+		Set<Path> failed = new HashSet<>();
+		for(Map.Entry<Path, CompoundNBT> entry : snapshot.entrySet())
+		{
+			Path file = entry.getKey();
+			try
+			{
+				Files.createDirectories(file.getParent());
+				Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+				try(OutputStream output = Files.newOutputStream(tempFile))
+				{
+					CompressedStreamTools.writeCompressed(entry.getValue(), output);
+				}
+				try
+				{
+					Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch(AtomicMoveNotSupportedException e)
+				{
+					Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} catch(IOException e)
+			{
+				LOGGER.error("Unable to save minestuck player data to {}:", file, e);
+				failed.add(file);
+			}
+		}
+		return failed;
+	}
+	
+	/**
+	 * Marks the data of players whose files could not be written as dirty again, so that they are retried on the next save.
+	 * Called each tick on the server thread, since failures are reported from the save thread,
+	 * and since this data is marked as not dirty right after being written.
+	 */
+	public void markFailedDirty()
+	{
+		PlayerData data;
+		while((data = failedData.poll()) != null)
+			markDirty(data);
+	}
+	
+	/**
+	 * Marks the data of a player that has logged out to be saved, after which it is unloaded unless it has been used since.
+	 */
+	void release(PlayerData data)
+	{
+		releasedData.add(data);
+		markDirty(data);
+	}
+	
+	/**
+	 * Unloads the data of players that have logged out once it has been saved,
+	 * unless the player has logged in again or the data has changed again since it was saved.
+	 * Called each tick on the server thread, since saves are reported from the save thread.
+	 */
+	public void unloadReleasedData()
+	{
+		PlayerData data;
+		while((data = savedReleasedData.poll()) != null)
+		{
+			if(hasLegacyData || !releasedData.contains(data) || dirtyData.contains(data) || changedGristCaches.contains(data))
+				continue;
+			
+			releasedData.remove(data);
+			if(data.identifier.getPlayer(mcServer) == null)
+			{
+				dataMap.remove(data.identifier, data);
+				onModusChanged(data, data.getModus(), null);
+			}
+		}
+	}
+	
 	@Override
 	public void read(CompoundNBT nbt)
 	{
+		IdentifierHandler.loadFakePlayerIndex(nbt.getInt("fake_player_index"));
+		
 		ListNBT list = nbt.getList("playerData", Constants.NBT.TAG_COMPOUND);
 		for (int i = 0; i < list.size(); i++)
 		{
@@ -84,13 +247,100 @@ public class PlayerSavedData extends WorldSavedData
 			{
 				PlayerData data = new PlayerData(this, dataCompound);
 				dataMap.put(data.identifier, data);
+				markDirty(data);
+				hasLegacyData = true;
 			} catch(Exception e)
 			{
 				LOGGER.error("Got exception when loading minestuck player data instance:", e);
 			}
 		}
 	}
-
+	
+	@Nullable
+	private PlayerData loadData(PlayerIdentifier player)
+	{
+		Path file = getPlayerFile(player);
+		if(!Files.exists(file))
+			return null;
+		
+		try(InputStream input = Files.newInputStream(file))
+		{
+			PlayerData data = new PlayerData(this, CompressedStreamTools.readCompressed(input));
+			if(data.identifier.equals(player))
+				return data;
+			LOGGER.error("Found minestuck player data for {} in the file for {}. Ignoring the file.", data.identifier, player);
+		} catch(Exception e)
+		{
+			LOGGER.error("Got exception when loading minestuck player data from {}:", file, e);
+		}
+		return null;
+	}
+	
+	/**
+	 * Marks the data of a specific player to be saved at the next opportunity.
+	 */
+	void markDirty(PlayerData data)
+	{
+		dataMap.putIfAbsent(data.identifier, data);	//In case the data was unloaded while something still used it
+		dirtyData.add(data);
+		markDirty();
+	}
+	
+	public void markDirty(PlayerIdentifier player)
+	{
+		markDirty(getData(player));
+	}
+	
+	/**
+	 * Marks the data of the player that has the given modus to be saved at the next opportunity.
+	 */
+	public void markDirty(Modus modus)
+	{
+		PlayerData data = modusOwners.get(modus);
+		if(data != null)
+			markDirty(data);
+	}
+	
+	void onModusChanged(PlayerData data, @Nullable Modus oldModus, @Nullable Modus newModus)
+	{
+		if(oldModus != null)
+			modusOwners.remove(oldModus, data);
+		if(newModus != null)
+			modusOwners.put(newModus, data);
+	}
+	
+	/**
+	 * Waits for any player data that is being saved on the save thread. Should only be called on a ServerStopped event by minestuck itself.
+	 */
+	public static void waitForSaves()
+	{
+		try
+		{
+			SAVE_EXECUTOR.submit(() -> {}).get();
+		} catch(InterruptedException | ExecutionException e)
+		{
+			LOGGER.error("Got exception when waiting for minestuck player data to be saved:", e);
+		}
+	}
+	
+	void onGristCacheChanged(PlayerData data)
+	{
+		changedGristCaches.add(data);
+	}
+	
+	/**
+	 * Sends grist cache changes for all players whose grist cache has changed since the last call. Should be called once per tick.
+	 */
+	public void sendGristCacheChanges()
+	{
+		if(!changedGristCaches.isEmpty())
+		{
+			for(PlayerData data : changedGristCaches)
+				data.sendGristCacheChanges();
+			changedGristCaches.clear();
+		}
+	}
+	
 	public static PlayerData getData(ServerPlayerEntity player)
 	{
 		return get(player.server).getData(IdentifierHandler.encode(player));
@@ -105,15 +355,24 @@ public class PlayerSavedData extends WorldSavedData
 	{
 		return get(server).getData(player);
 	}
-
+	
+	/**
+	 * Gets the data for the player, loading it from the player file the first time that it is requested.
+	 */
 	public PlayerData getData(PlayerIdentifier player)
 	{
-		if (!dataMap.containsKey(player))
+		PlayerData data = dataMap.get(player);
+		if(data == null)
 		{
-			PlayerData data = new PlayerData(this, player);
+			data = loadData(player);
+			if(data == null)
+			{
+				data = new PlayerData(this, player);
+				dirtyData.add(data);
+				markDirty();
+			}
 			dataMap.put(player, data);
-			markDirty();
 		}
-		return dataMap.get(player);
+		return data;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.mraof.minestuck.inventory.captchalogue;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.registry.Bootstrap;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the incremental balancing and cached sizes of {@link TreeModus.TreeNode}.
+ */
+public class TreeNodeTest
+{
+	private static final int ITEM_COUNT = 200;
+	private static final List<Item> ITEMS = new ArrayList<>();	//Sorted by registry name
+	
+	@BeforeClass
+	public static void setup()
+	{
+		Bootstrap.register();
+		for(int i = 0; i < ITEM_COUNT; i++)
+			ITEMS.add(new Item(new Item.Properties()).setRegistryName("minestuck", String.format("test_item_%03d", i)));
+	}
+	
+	@Test
+	public void sortedInsertionsStayBalanced()
+	{
+		TreeModus.TreeNode root = build(ITEMS, true);
+		
+		assertEquals(ITEM_COUNT, root.getSize());
+		checkStructure(root);
+		assertBalanced(root);
+		assertItemsInOrder(root, ITEMS);
+	}
+	
+	@Test
+	public void randomInsertionsStayBalanced()
+	{
+		List<Item> items = new ArrayList<>(ITEMS);
+		Collections.shuffle(items, new Random(413));
+		TreeModus.TreeNode root = build(items, true);
+		
+		assertEquals(ITEM_COUNT, root.getSize());
+		checkStructure(root);
+		assertBalanced(root);
+		assertItemsInOrder(root, ITEMS);
+	}
+	
+	@Test
+	public void unbalancedInsertionsKeepShape()
+	{
+		List<Item> items = ITEMS.subList(0, 10);
+		TreeModus.TreeNode root = build(items, false);
+		
+		//Without balancing, sorted insertions make a chain of right children
+		TreeModus.TreeNode node = root;
+		for(int i = 0; i < items.size(); i++)
+		{
+			assertSame(items.get(i), node.stack.getItem());
+			assertNull(node.node1);
+			assertEquals(items.size() - i, node.getSize());
+			node = node.node2;
+		}
+		assertNull(node);
+	}
+	
+	@Test
+	public void equalItemsAreMerged()
+	{
+		Item item = ITEMS.get(0);
+		TreeModus.TreeNode root = new TreeModus.TreeNode(new ItemStack(item, 2));
+		root = root.addNode(new TreeModus.TreeNode(new ItemStack(item, 3)), true);
+		
+		assertEquals(1, root.getSize());
+		assertEquals(5, root.stack.getCount());
+	}
+	
+	@Test
+	public void removingSubtreeUpdatesSizes()
+	{
+		TreeModus.TreeNode root = build(ITEMS.subList(0, 15), true);
+		int leftSize = root.node1.getSize();
+		
+		List<ItemStack> removed = root.removeItems(1);	//Index 1 is the left child of the root
+		
+		assertEquals(leftSize, removed.size());
+		assertNull(root.node1);
+		assertEquals(15 - leftSize, root.getSize());
+		checkStructure(root);
+	}
+	
+	private static TreeModus.TreeNode build(List<Item> items, boolean balance)
+	{
+		TreeModus.TreeNode root = null;
+		for(Item item : items)
+		{
+			TreeModus.TreeNode node = new TreeModus.TreeNode(new ItemStack(item));
+			root = root == null ? node : root.addNode(node, balance);
+		}
+		return root;
+	}
+	
+	/**
+	 * Checks that the cached size of each node matches its subtree.
+	 * @return the size of the subtree
+	 */
+	private static int checkStructure(TreeModus.TreeNode node)
+	{
+		if(node == null)
+			return 0;
+		int size = 1 + checkStructure(node.node1) + checkStructure(node.node2);
+		assertEquals(size, node.getSize());
+		return size;
+	}
+	
+	/**
+	 * Checks the AVL height condition with heights counted from the tree itself rather than the cached heights.
+	 * @return the height of the subtree
+	 */
+	private static int assertBalanced(TreeModus.TreeNode node)
+	{
+		if(node == null)
+			return 0;
+		int height1 = assertBalanced(node.node1), height2 = assertBalanced(node.node2);
+		assertTrue(Math.abs(height1 - height2) <= 1);
+		assertFalse(node.isUnbalanced());
+		return 1 + Math.max(height1, height2);
+	}
+	
+	private static void assertItemsInOrder(TreeModus.TreeNode root, List<Item> expected)
+	{
+		List<ItemStack> stacks = root.getItems();
+		assertEquals(expected.size(), stacks.size());
+		for(int i = 0; i < expected.size(); i++)
+			assertSame(expected.get(i), stacks.get(i).getItem());
+	}
+}
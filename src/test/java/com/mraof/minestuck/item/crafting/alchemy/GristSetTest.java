@@ -0,0 +1,198 @@
+package com.mraof.minestuck.item.crafting.alchemy;
+
+import net.minecraft.util.registry.Bootstrap;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the array-based storage of {@link GristSet}, without the grist type registry.
+ * Without a registry, grist sets go through their types in index order.
+ */
+public class GristSetTest
+{
+	private static GristType first, second, third;
+	
+	@BeforeClass
+	public static void setup()
+	{
+		Bootstrap.register();
+		first = new GristType(new GristType.Properties(0.5F));
+		second = new GristType(new GristType.Properties(0.5F));
+		third = new GristType(new GristType.Properties(0.5F));
+	}
+	
+	@Test
+	public void emptySetHasNoTypes()
+	{
+		GristSet set = new GristSet();
+		assertTrue(set.isEmpty());
+		assertFalse(set.hasType(first));
+		assertEquals(0, set.getGrist(third));
+		assertTrue(set.getAmounts().isEmpty());
+	}
+	
+	@Test
+	public void setAndAddGrist()
+	{
+		GristSet set = new GristSet();
+		set.setGrist(second, 5);
+		set.addGrist(second, 3);
+		set.addGrist(third, 2);
+		
+		assertEquals(0, set.getGrist(first));
+		assertEquals(8, set.getGrist(second));
+		assertEquals(2, set.getGrist(third));
+		assertFalse(set.hasType(first));
+		assertTrue(set.hasType(second));
+		assertFalse(set.isEmpty());
+	}
+	
+	@Test
+	public void settingZeroRemovesType()
+	{
+		GristSet set = new GristSet(first, 4);
+		set.setGrist(first, 0);
+		
+		assertFalse(set.hasType(first));
+		assertTrue(set.isEmpty());
+	}
+	
+	@Test
+	public void explicitZeroIsKept()
+	{
+		GristSet set = new GristSet(new GristType[] {first, second}, new long[] {0, 2});
+		assertTrue(set.hasType(first));
+		assertEquals(0, set.getGrist(first));
+		
+		List<GristType> types = new ArrayList<>();
+		set.forEach((type, amount) -> types.add(type));
+		assertEquals(2, types.size());
+	}
+	
+	@Test
+	public void addingDownToZeroKeepsType()
+	{
+		GristSet set = new GristSet(first, 4);
+		set.addGrist(first, -4);
+		
+		assertTrue(set.hasType(first));
+		assertFalse(set.isEmpty());
+		assertEquals(0, set.getGrist(first));
+	}
+	
+	@Test
+	public void forEachGoesInOrder()
+	{
+		GristSet set = new GristSet();
+		set.addGrist(third, 3);
+		set.addGrist(first, 1);
+		set.addGrist(second, 2);
+		
+		List<GristType> types = new ArrayList<>();
+		List<Long> amounts = new ArrayList<>();
+		set.forEach((type, amount) -> {
+			types.add(type);
+			amounts.add(amount);
+		});
+		
+		assertEquals(3, types.size());
+		assertSame(first, types.get(0));
+		assertSame(second, types.get(1));
+		assertSame(third, types.get(2));
+		assertEquals(Long.valueOf(1), amounts.get(0));
+		assertEquals(Long.valueOf(3), amounts.get(2));
+	}
+	
+	@Test
+	public void copyIsIndependent()
+	{
+		GristSet set = new GristSet(first, 4);
+		GristSet copy = set.copy();
+		copy.addGrist(first, 2);
+		copy.addGrist(second, 1);
+		
+		assertEquals(4, set.getGrist(first));
+		assertFalse(set.hasType(second));
+		assertEquals(6, copy.getGrist(first));
+		assertTrue(copy.hasType(second));
+	}
+	
+	@Test
+	public void addGristSet()
+	{
+		GristSet set = new GristSet(first, 4);
+		set.addGrist(new GristSet(new GristType[] {first, third}, new long[] {1, 5}));
+		
+		assertEquals(5, set.getGrist(first));
+		assertEquals(5, set.getGrist(third));
+		assertFalse(set.hasType(second));
+	}
+	
+	@Test
+	public void scaleOnlyChangesPositiveAmounts()
+	{
+		GristSet set = new GristSet(new GristType[] {first, second}, new long[] {3, -2});
+		set.scale(2);
+		assertEquals(6, set.getGrist(first));
+		assertEquals(-2, set.getGrist(second));
+		
+		set.scale(0.5F, false);
+		assertEquals(3, set.getGrist(first));
+		set.scale(0.1F, false);
+		assertEquals(1, set.getGrist(first));
+		set.scale(0.1F, true);
+		assertEquals(0, set.getGrist(first));
+		assertTrue(set.hasType(first));
+	}
+	
+	@Test
+	public void coverage()
+	{
+		GristSet cost = new GristSet(new GristType[] {first, second}, new long[] {2, 3});
+		GristSet base = new GristSet(new GristType[] {first, second, third}, new long[] {7, 10, 1});
+		
+		assertTrue(cost.isCoveredBy(base));
+		assertEquals(3, cost.timesCoveredBy(base, 15));
+		assertEquals(2, cost.timesCoveredBy(base, 2));
+		assertFalse(cost.isCoveredBy(new GristSet(first, 7)));
+		assertEquals(0, cost.timesCoveredBy(new GristSet(first, 7), 15));
+	}
+	
+	@Test
+	public void emptyImmutableSetCanBeScaled()
+	{
+		assertSame(GristSet.EMPTY, GristSet.EMPTY.scale(2));
+	}
+	
+	@Test(expected = UnsupportedOperationException.class)
+	public void immutableSetCanNotBeScaled()
+	{
+		new ImmutableGristSet(first, 2).scale(2);
+	}
+	
+	@Test(expected = UnsupportedOperationException.class)
+	public void immutableSetCanNotBeChanged()
+	{
+		new GristSet(first, 2).asImmutable().addGrist(first, 1);
+	}
+	
+	@Test
+	public void nonNegativeSetIsUnchangedOnFailure()
+	{
+		NonNegativeGristSet set = new NonNegativeGristSet();
+		set.addGrist(first, 2);
+		try
+		{
+			set.addGrist(first, -3);
+			fail("Expected the grist count to not be allowed below 0");
+		} catch(IllegalArgumentException ignored)
+		{
+		}
+		assertEquals(2, set.getGrist(first));
+	}
+}
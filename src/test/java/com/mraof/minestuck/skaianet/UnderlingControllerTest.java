@@ -0,0 +1,94 @@
+package com.mraof.minestuck.skaianet;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3i;
+import net.minecraft.world.biome.Biome;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the precomputed underling spawn table and the spawn difficulty, without the default underlings, which need the config and entity types.
+ */
+public class UnderlingControllerTest
+{
+	@Test
+	public void tableHasEveryDifficulty()
+	{
+		List<List<Biome.SpawnListEntry>> table = UnderlingController.buildSpawnTable(ImmutableList.<UnderlingController.SpawnEntryProvider>of());
+		
+		assertEquals(UnderlingController.MAX_DIFFICULTY + 1, table.size());
+		for(List<Biome.SpawnListEntry> list : table)
+			assertTrue(list.isEmpty());
+	}
+	
+	@Test
+	public void providersAddEntriesInOrder()
+	{
+		Biome.SpawnListEntry[] firstEntries = new Biome.SpawnListEntry[UnderlingController.MAX_DIFFICULTY + 1];
+		Biome.SpawnListEntry[] secondEntries = new Biome.SpawnListEntry[UnderlingController.MAX_DIFFICULTY + 1];
+		for(int difficulty = 0; difficulty <= UnderlingController.MAX_DIFFICULTY; difficulty++)
+		{
+			firstEntries[difficulty] = new Biome.SpawnListEntry(null, difficulty + 1, 1, 1);
+			secondEntries[difficulty] = new Biome.SpawnListEntry(null, 100 + difficulty, 1, 2);
+		}
+		UnderlingController.SpawnEntryProvider first = (difficulty, list) -> list.add(firstEntries[difficulty]);
+		UnderlingController.SpawnEntryProvider second = (difficulty, list) -> {
+			if(difficulty >= 10)
+				list.add(secondEntries[difficulty]);
+		};
+		
+		List<List<Biome.SpawnListEntry>> table = UnderlingController.buildSpawnTable(ImmutableList.of(first, second));
+		
+		for(int difficulty = 0; difficulty <= UnderlingController.MAX_DIFFICULTY; difficulty++)
+		{
+			List<Biome.SpawnListEntry> list = table.get(difficulty);
+			assertEquals(difficulty >= 10 ? 2 : 1, list.size());
+			assertSame(firstEntries[difficulty], list.get(0));
+			if(difficulty >= 10)
+				assertSame(secondEntries[difficulty], list.get(1));
+		}
+	}
+	
+	@Test(expected = UnsupportedOperationException.class)
+	public void tableCanNotBeChanged()
+	{
+		List<List<Biome.SpawnListEntry>> table = UnderlingController.buildSpawnTable(ImmutableList.<UnderlingController.SpawnEntryProvider>of((difficulty, list) -> list.add(new Biome.SpawnListEntry(null, 1, 1, 1))));
+		table.get(0).clear();
+	}
+	
+	@Test
+	public void difficultyMatchesOldDistance()
+	{
+		BlockPos[] spawns = {BlockPos.ZERO, new BlockPos(8, 64, -8), new BlockPos(-1000, 70, 2500)};
+		for(BlockPos spawn : spawns)
+		{
+			for(int x = -3000; x <= 3000; x += 37)
+			{
+				for(int z = -3000; z <= 3000; z += 41)
+				{
+					BlockPos pos = spawn.add(x, 0, z);
+					assertEquals("Difficulty at " + pos + " with spawn " + spawn, oldDifficulty(pos, spawn), UnderlingController.getDifficulty(pos, spawn));
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void difficultyIsCapped()
+	{
+		assertEquals(UnderlingController.MAX_DIFFICULTY, UnderlingController.getDifficulty(new BlockPos(1_000_000, 64, 0), BlockPos.ZERO));
+	}
+	
+	/**
+	 * The difficulty as it was calculated before the spawn table was added.
+	 */
+	private static int oldDifficulty(BlockPos pos, BlockPos spawn)
+	{
+		int difficulty = (int) Math.round(Math.sqrt(new Vec3i(pos.getX() >> 4, 0, pos.getZ() >> 4).distanceSq(new Vec3i(spawn.getX() >> 4, 0, spawn.getZ() >> 4))));
+		return Math.min(30, difficulty/3);
+	}
+}